@@ -3,9 +3,13 @@ package com.translation;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableCaching
+// Caching runs outside the transaction so callers waiting on a shared load hold no connection
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableScheduling
 public class TranslationServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(TranslationServiceApplication.class, args);
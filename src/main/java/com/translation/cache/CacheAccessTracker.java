@@ -0,0 +1,119 @@
+package com.translation.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts translation lookups per key and language so that a fresh instance knows which
+ * keys to warm up. Counts are aggregated in memory and added to a shared Redis sorted set
+ * periodically, keeping Redis traffic independent of the request rate.
+ */
+@Slf4j
+@Component
+public class CacheAccessTracker {
+
+    static final String HOT_KEYS = "translation:hot-keys";
+    private static final byte[] HOT_KEYS_BYTES = HOT_KEYS.getBytes(StandardCharsets.UTF_8);
+    private static final int MAX_PENDING_KEYS = 100_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int maxTrackedKeys;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public CacheAccessTracker(StringRedisTemplate redisTemplate,
+                              @Value("${translation.cache.access-stats.enabled:false}") boolean enabled,
+                              @Value("${translation.cache.access-stats.max-tracked-keys:10000}") int maxTrackedKeys) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void record(String languageCode, String key) {
+        if (!enabled) {
+            return;
+        }
+        String member = languageCode + ":" + key;
+        LongAdder counter = pending.get(member);
+        if (counter == null) {
+            if (pending.size() >= MAX_PENDING_KEYS) {
+                return;
+            }
+            counter = pending.computeIfAbsent(member, m -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Scheduled(initialDelayString = "${translation.cache.access-stats.flush-interval:PT30S}",
+               fixedDelayString = "${translation.cache.access-stats.flush-interval:PT30S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, Long>> counts = new ArrayList<>(pending.size());
+        for (String member : pending.keySet()) {
+            LongAdder counter = pending.remove(member);
+            if (counter != null) {
+                counts.add(Map.entry(member, counter.sum()));
+            }
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                incrementScores(connection, counts);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not flush {} access counts: {}", counts.size(), e.getMessage());
+        }
+    }
+
+    private void incrementScores(RedisConnection connection, List<Map.Entry<String, Long>> counts) {
+        for (Map.Entry<String, Long> count : counts) {
+            connection.zSetCommands().zIncrBy(HOT_KEYS_BYTES, count.getValue(),
+                    count.getKey().getBytes(StandardCharsets.UTF_8));
+        }
+        // Keep only the most requested keys
+        connection.zSetCommands().zRemRange(HOT_KEYS_BYTES, 0, -(maxTrackedKeys + 1L));
+    }
+
+    /**
+     * Returns the most requested keys across all nodes, most popular first.
+     */
+    public List<HotKey> topKeys(int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        Set<ZSetOperations.TypedTuple<String>> members =
+                redisTemplate.opsForZSet().reverseRangeWithScores(HOT_KEYS, 0, limit - 1L);
+        if (members == null) {
+            return Collections.emptyList();
+        }
+        List<HotKey> keys = new ArrayList<>(members.size());
+        for (ZSetOperations.TypedTuple<String> member : members) {
+            String value = member.getValue();
+            int separator = value != null ? value.indexOf(':') : -1;
+            if (separator > 0) {
+                keys.add(new HotKey(value.substring(0, separator), value.substring(separator + 1)));
+            }
+        }
+        return keys;
+    }
+
+    public record HotKey(String languageCode, String key) {
+    }
+}
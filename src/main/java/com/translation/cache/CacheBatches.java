@@ -0,0 +1,51 @@
+package com.translation.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multi-key access to any Spring {@link Cache}. Two-level caches answer with one remote
+ * round trip, other caches key by key. Writes are applied immediately, also to
+ * transaction-aware caches, so callers should only store values read outside a write
+ * transaction.
+ */
+public final class CacheBatches {
+
+    private CacheBatches() {
+    }
+
+    /**
+     * @return values of the keys found
+     */
+    public static Map<Object, Object> getAll(Cache cache, Collection<?> keys) {
+        Cache target = unwrap(cache);
+        if (target instanceof TwoLevelCache twoLevelCache) {
+            return twoLevelCache.getAll(keys);
+        }
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            Cache.ValueWrapper wrapper = target.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                found.put(key, wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    public static void putAll(Cache cache, Map<?, ?> values) {
+        Cache target = unwrap(cache);
+        if (target instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.putAll(values);
+        } else {
+            values.forEach(target::put);
+        }
+    }
+
+    private static Cache unwrap(Cache cache) {
+        return cache instanceof TransactionAwareCacheDecorator decorator ? decorator.getTargetCache() : cache;
+    }
+}
@@ -0,0 +1,42 @@
+package com.translation.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.io.IOException;
+
+/**
+ * Drops near cache entries evicted on other nodes and reloads the {@link LanguageRegistry}
+ * after language changes on other nodes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final LanguageRegistry languageRegistry;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+            if (nodeId.equals(invalidation.node())) {
+                return;
+            }
+            log.debug("Received invalidation for {}::{} from node {}",
+                    invalidation.cache(), invalidation.key(), invalidation.node());
+            if (LanguageRegistry.CACHE_NAME.equals(invalidation.cache())) {
+                languageRegistry.refresh();
+                return;
+            }
+            cacheManager.evictLocal(invalidation.cache(), invalidation.key());
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+        }
+    }
+}
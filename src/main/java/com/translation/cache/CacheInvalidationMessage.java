@@ -0,0 +1,11 @@
+package com.translation.cache;
+
+/**
+ * Broadcast to all nodes when an entry is evicted so they drop it from their near cache.
+ *
+ * @param node  id of the publishing node, used to ignore our own messages
+ * @param cache cache name
+ * @param key   evicted key, or {@code null} when the whole cache was cleared
+ */
+public record CacheInvalidationMessage(String node, String cache, String key) {
+}
@@ -0,0 +1,38 @@
+package com.translation.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Publishes near cache invalidations over Redis pub/sub.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "translation:cache-invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publish(String cacheName, Object key) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(
+                nodeId, cacheName, key != null ? key.toString() : null);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Peers fall back to the near cache TTL for this entry
+            log.warn("Could not publish cache invalidation for {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+}
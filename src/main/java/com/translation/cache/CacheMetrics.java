@@ -0,0 +1,90 @@
+package com.translation.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hit, miss and eviction counters of one {@link TwoLevelCache}, tagged by cache level so
+ * the near cache can be sized independently of Redis.
+ */
+class CacheMetrics {
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter localEvictions;
+    private final Counter staleHits;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteEvictions;
+
+    CacheMetrics(MeterRegistry registry, String cacheName) {
+        this.localHits = requests(registry, cacheName, "local", "hit");
+        this.localMisses = requests(registry, cacheName, "local", "miss");
+        this.remoteHits = requests(registry, cacheName, "remote", "hit");
+        this.remoteMisses = requests(registry, cacheName, "remote", "miss");
+        this.staleHits = requests(registry, cacheName, "local", "stale");
+        this.localEvictions = evictions(registry, cacheName, "local");
+        this.remoteEvictions = evictions(registry, cacheName, "remote");
+    }
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localHit(int count) {
+        localHits.increment(count);
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void localMiss(int count) {
+        localMisses.increment(count);
+    }
+
+    void localEviction() {
+        localEvictions.increment();
+    }
+
+    void staleHit() {
+        staleHits.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void remoteHit(int count) {
+        remoteHits.increment(count);
+    }
+
+    void remoteMiss() {
+        remoteMisses.increment();
+    }
+
+    void remoteMiss(int count) {
+        remoteMisses.increment(count);
+    }
+
+    void remoteEviction() {
+        remoteEvictions.increment();
+    }
+
+    private static Counter requests(MeterRegistry registry, String cacheName, String level, String result) {
+        return Counter.builder("translation.cache.requests")
+                .description("Cache lookups per level and result")
+                .tag("cache", cacheName)
+                .tag("level", level)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter evictions(MeterRegistry registry, String cacheName, String level) {
+        return Counter.builder("translation.cache.evictions")
+                .description("Entries removed from a cache level by eviction or invalidation")
+                .tag("cache", cacheName)
+                .tag("level", level)
+                .register(registry);
+    }
+}
@@ -0,0 +1,323 @@
+package com.translation.cache;
+
+import com.translation.model.Translation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary format for Redis cache values.
+ * <p>
+ * Every value starts with a magic byte, a format version and a type tag. Strings are
+ * length-prefixed UTF-8 and integers are varints, so a translation costs little more than
+ * its text. Values written by a newer format version, or in a format this codec does not
+ * recognise, decode to {@code null} and are therefore treated as cache misses: during a
+ * rolling deploy old and new nodes simply reload each other's entries.
+ * <p>
+ * Translations are stored as {@link CachedTranslation} and language exports as nested
+ * string maps; anything else falls back to JDK serialization inside the same envelope.
+ */
+@Slf4j
+public class CacheValueCodec implements RedisSerializer<Object> {
+
+    static final byte MAGIC = 0x54;
+    static final byte VERSION = 1;
+
+    private static final byte TYPE_JDK = 0;
+    private static final byte TYPE_TRANSLATION = 1;
+    private static final byte TYPE_TREE = 2;
+    private static final byte TYPE_STRING = 3;
+
+    private static final byte NODE_LEAF = 0;
+    private static final byte NODE_SUBTREE = 1;
+
+    private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Output out = new Output();
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        if (value instanceof Translation translation) {
+            out.writeByte(TYPE_TRANSLATION);
+            writeTranslation(out, CachedTranslation.from(translation));
+        } else if (value instanceof Map<?, ?> map && isStringTree(map)) {
+            out.writeByte(TYPE_TREE);
+            writeTree(out, map);
+        } else if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            out.writeString(string);
+        } else {
+            out.writeByte(TYPE_JDK);
+            out.writeBytes(fallback.serialize(value));
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length < 3 || bytes[0] != MAGIC) {
+            log.debug("Ignoring cache value in unknown format");
+            return null;
+        }
+        if (bytes[1] != VERSION) {
+            log.debug("Ignoring cache value with format version {}", bytes[1]);
+            return null;
+        }
+        Input in = new Input(bytes, 3);
+        try {
+            return switch (bytes[2]) {
+                case TYPE_TRANSLATION -> readTranslation(in).toTranslation();
+                case TYPE_TREE -> readTree(in);
+                case TYPE_STRING -> in.readString();
+                case TYPE_JDK -> fallback.deserialize(Arrays.copyOfRange(bytes, 3, bytes.length));
+                default -> {
+                    log.debug("Ignoring cache value of unknown type {}", bytes[2]);
+                    yield null;
+                }
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated cache value", e);
+        }
+    }
+
+    private static void writeTranslation(Output out, CachedTranslation translation) {
+        out.writeNullableLong(translation.id());
+        out.writeString(translation.key());
+        out.writeString(translation.content());
+        out.writeNullableLong(translation.languageId());
+        out.writeString(translation.languageCode());
+        out.writeVarInt(translation.tags().size());
+        for (String tag : translation.tags()) {
+            out.writeString(tag);
+        }
+        out.writeDateTime(translation.createdAt());
+        out.writeDateTime(translation.updatedAt());
+    }
+
+    private static CachedTranslation readTranslation(Input in) {
+        Long id = in.readNullableLong();
+        String key = in.readString();
+        String content = in.readString();
+        Long languageId = in.readNullableLong();
+        String languageCode = in.readString();
+        int tagCount = in.readCount();
+        List<String> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(in.readString());
+        }
+        return new CachedTranslation(id, key, content, languageId, languageCode, tags,
+                in.readDateTime(), in.readDateTime());
+    }
+
+    private static boolean isStringTree(Map<?, ?> map) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!(entry.getKey() instanceof String)) {
+                return false;
+            }
+            Object value = entry.getValue();
+            if (value instanceof Map<?, ?> subtree) {
+                if (!isStringTree(subtree)) {
+                    return false;
+                }
+            } else if (!(value instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeTree(Output out, Map<?, ?> map) {
+        out.writeVarInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            out.writeString((String) entry.getKey());
+            if (entry.getValue() instanceof Map<?, ?> subtree) {
+                out.writeByte(NODE_SUBTREE);
+                writeTree(out, subtree);
+            } else {
+                out.writeByte(NODE_LEAF);
+                out.writeString((String) entry.getValue());
+            }
+        }
+    }
+
+    private static Map<String, Object> readTree(Input in) {
+        int size = in.readCount();
+        Map<String, Object> map = new LinkedHashMap<>(Math.max(4, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            String key = in.readString();
+            byte node = in.readByte();
+            if (node == NODE_SUBTREE) {
+                map.put(key, readTree(in));
+            } else if (node == NODE_LEAF) {
+                map.put(key, in.readString());
+            } else {
+                throw new SerializationException("Unknown tree node type " + node);
+            }
+        }
+        return map;
+    }
+
+    private static final class Output {
+
+        private byte[] buffer = new byte[256];
+        private int position;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeNullableLong(Long value) {
+            if (value == null) {
+                writeByte(0);
+            } else {
+                writeByte(1);
+                writeVarLong((value << 1) ^ (value >> 63));
+            }
+        }
+
+        /**
+         * Writes the UTF-8 length plus one, so that zero can stand for {@code null}.
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes);
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            if (value == null) {
+                writeNullableLong(null);
+                return;
+            }
+            writeNullableLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(value.getNano());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer[position++];
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift >= 64) {
+                    throw new SerializationException("Malformed varint in cache value");
+                }
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        Long readNullableLong() {
+            if (readByte() == 0) {
+                return null;
+            }
+            long encoded = readVarLong();
+            return (encoded >>> 1) ^ -(encoded & 1);
+        }
+
+        /**
+         * Reads the element count of a list or tree; every element takes at least one byte,
+         * so a count above the remaining bytes can only come from a corrupt value.
+         */
+        int readCount() {
+            long count = readVarLong();
+            if (count < 0 || count > buffer.length - position) {
+                throw new SerializationException("Invalid element count " + count + " in cache value");
+            }
+            return (int) count;
+        }
+
+        String readString() {
+            long encoded = readVarLong();
+            if (encoded == 0) {
+                return null;
+            }
+            long length = encoded - 1;
+            if (length < 0 || length > buffer.length - position) {
+                throw new SerializationException("Invalid string length " + length + " in cache value");
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            Long epochSecond = readNullableLong();
+            if (epochSecond == null) {
+                return null;
+            }
+            return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.translation.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.translation.model.Translation;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Rough estimate of the heap retained by a cached value, used to bound the near cache
+ * by memory rather than entry count: a language export and a single translation differ
+ * by several orders of magnitude.
+ */
+class CacheValueWeigher implements Weigher<Object, Object> {
+
+    private static final long OBJECT_OVERHEAD = 16;
+    private static final long ENTRY_OVERHEAD = 48;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(key) + estimate(value));
+    }
+
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return 40 + string.length();
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = OBJECT_OVERHEAD;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += ENTRY_OVERHEAD + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_OVERHEAD;
+            for (Object element : collection) {
+                size += 8 + estimate(element);
+            }
+            return size;
+        }
+        if (value instanceof Translation translation) {
+            return 128 + estimate(translation.getTranslationKey()) + estimate(translation.getContent());
+        }
+        return 64;
+    }
+}
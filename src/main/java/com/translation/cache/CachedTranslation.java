@@ -0,0 +1,58 @@
+package com.translation.cache;
+
+import com.translation.model.Language;
+import com.translation.model.Tag;
+import com.translation.model.Translation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache representation of a {@link Translation}: plain values only, so it can be encoded
+ * without touching lazy associations and decoded without a persistence context.
+ */
+public record CachedTranslation(Long id,
+                                String key,
+                                String content,
+                                Long languageId,
+                                String languageCode,
+                                List<String> tags,
+                                LocalDateTime createdAt,
+                                LocalDateTime updatedAt) {
+
+    public static CachedTranslation from(Translation translation) {
+        Language language = translation.getLanguage();
+        List<String> tags = new ArrayList<>(translation.getTags().size());
+        for (Tag tag : translation.getTags()) {
+            tags.add(tag.getName());
+        }
+        return new CachedTranslation(translation.getId(), translation.getTranslationKey(), translation.getContent(),
+                language != null ? language.getId() : null, language != null ? language.getCode() : null,
+                tags, translation.getCreatedAt(), translation.getUpdatedAt());
+    }
+
+    /**
+     * Rebuilds a detached entity; the language and tags only carry the cached attributes.
+     */
+    public Translation toTranslation() {
+        Translation translation = new Translation();
+        translation.setId(id);
+        translation.setTranslationKey(key);
+        translation.setContent(content);
+        if (languageCode != null) {
+            Language language = new Language();
+            language.setId(languageId);
+            language.setCode(languageCode);
+            translation.setLanguage(language);
+        }
+        for (String name : tags) {
+            Tag tag = new Tag();
+            tag.setName(name);
+            translation.getTags().add(tag);
+        }
+        translation.setCreatedAt(createdAt);
+        translation.setUpdatedAt(updatedAt);
+        return translation;
+    }
+}
@@ -0,0 +1,228 @@
+package com.translation.cache;
+
+import com.translation.repository.LanguageRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory copy of all languages, so that resolving a language code to its id or listing
+ * languages never reaches the database.
+ * <p>
+ * The languages are held in an immutable snapshot that is replaced as a whole. It is
+ * loaded at startup, reloaded after every language write and on notification from other
+ * nodes, and once per {@code refresh-interval} in case a notification was lost. Inside a
+ * transaction that changed languages, lookups see that transaction's languages; everyone
+ * else keeps the committed snapshot until the transaction completes.
+ * <p>
+ * Each language has a fallback chain for missing keys: its configured fallback or else
+ * the code without its last subtag, repeated, followed by
+ * {@code translation.languages.default-fallback}. {@code fr-ca} thus falls back to
+ * {@code fr}, then {@code en}.
+ */
+@Slf4j
+@Component
+public class LanguageRegistry implements SmartInitializingSingleton {
+
+    /**
+     * Name under which language changes are broadcast with the cache invalidations.
+     */
+    public static final String CACHE_NAME = "languages";
+
+    private final LanguageRepository languageRepository;
+    private final ObjectProvider<CacheInvalidationPublisher> invalidationPublisher;
+    private final String defaultFallback;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    public LanguageRegistry(LanguageRepository languageRepository,
+                            ObjectProvider<CacheInvalidationPublisher> invalidationPublisher,
+                            @Value("${translation.languages.default-fallback:}") String defaultFallback) {
+        this.languageRepository = languageRepository;
+        this.invalidationPublisher = invalidationPublisher;
+        this.defaultFallback = defaultFallback.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param parentCode code of the language to fall back to first, or {@code null} if
+     *                   there is none besides the default
+     * @param fallbacks  codes of the languages to look missing keys up in, in order
+     */
+    public record Entry(long id, String code, String name, String parentCode, List<String> fallbacks,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    /**
+     * @param code language code as stored, in lower case; other spellings are not found
+     */
+    public Optional<Entry> find(String code) {
+        return Optional.ofNullable(current().get(code));
+    }
+
+    /**
+     * @throws EntityNotFoundException if there is no language with this code
+     */
+    public Entry require(String code) {
+        return find(code).orElseThrow(() -> new EntityNotFoundException("Language not found: " + code));
+    }
+
+    /**
+     * @return the language followed by its fallbacks, or an empty list if there is no
+     *         language with this code, looked up like {@link #find(String)}
+     */
+    public List<String> fallbackChain(String code) {
+        Entry entry = current().get(code);
+        if (entry == null) {
+            return List.of();
+        }
+        List<String> chain = new ArrayList<>(entry.fallbacks().size() + 1);
+        chain.add(entry.code());
+        chain.addAll(entry.fallbacks());
+        return chain;
+    }
+
+    /**
+     * @return all languages ordered by code
+     */
+    public List<Entry> all() {
+        return current().entries;
+    }
+
+    /**
+     * Reloads the committed languages.
+     */
+    @Scheduled(initialDelayString = "${translation.languages.refresh-interval:PT5M}",
+               fixedDelayString = "${translation.languages.refresh-interval:PT5M}")
+    public void refresh() {
+        snapshot.set(load());
+    }
+
+    /**
+     * Called after languages were created, changed or deleted. Outside a transaction the
+     * snapshot is reloaded right away; inside one, only for the rest of the transaction,
+     * and for everyone once it completes.
+     */
+    public void languagesChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            notifyPeers();
+            return;
+        }
+        boolean registered = TransactionSynchronizationManager.unbindResourceIfPossible(this) != null;
+        TransactionSynchronizationManager.bindResource(this, load());
+        if (registered) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LanguageRegistry.this);
+                refresh();
+                if (status == STATUS_COMMITTED) {
+                    notifyPeers();
+                }
+            }
+        });
+    }
+
+    private Snapshot current() {
+        Snapshot pending = (Snapshot) TransactionSynchronizationManager.getResource(this);
+        return pending != null ? pending : snapshot.get();
+    }
+
+    private Snapshot load() {
+        List<LanguageRepository.LanguageSummary> summaries = languageRepository.findAllSummaries();
+        Map<String, LanguageRepository.LanguageSummary> byCode = new HashMap<>();
+        for (LanguageRepository.LanguageSummary summary : summaries) {
+            byCode.put(summary.getCode(), summary);
+        }
+        Map<String, String> parents = new HashMap<>();
+        for (LanguageRepository.LanguageSummary summary : summaries) {
+            String fallback = summary.getFallbackCode();
+            parents.put(summary.getCode(), fallback != null && byCode.containsKey(fallback)
+                    ? fallback : parentCode(summary.getCode(), byCode));
+        }
+        List<Entry> entries = new ArrayList<>(summaries.size());
+        for (LanguageRepository.LanguageSummary summary : summaries) {
+            entries.add(new Entry(summary.getId(), summary.getCode(), summary.getName(),
+                    parents.get(summary.getCode()), fallbacks(summary.getCode(), parents, byCode),
+                    summary.getCreatedAt(), summary.getUpdatedAt()));
+        }
+        return new Snapshot(entries);
+    }
+
+    private List<String> fallbacks(String code, Map<String, String> parents, Map<String, ?> languages) {
+        // Visited codes, so overrides pointing back down the chain cannot loop
+        Set<String> chain = new LinkedHashSet<>();
+        chain.add(code);
+        for (String parent = parents.get(code); parent != null && chain.add(parent); ) {
+            parent = parents.get(parent);
+        }
+        if (languages.containsKey(defaultFallback)) {
+            chain.add(defaultFallback);
+        }
+        chain.remove(code);
+        return List.copyOf(chain);
+    }
+
+    private void notifyPeers() {
+        invalidationPublisher.ifAvailable(publisher -> publisher.publish(CACHE_NAME, null));
+    }
+
+    private static String parentCode(String code, Map<String, ?> languages) {
+        for (int end = code.lastIndexOf('-'); end > 0; end = code.lastIndexOf('-', end - 1)) {
+            String parent = code.substring(0, end);
+            if (languages.containsKey(parent)) {
+                return parent;
+            }
+        }
+        return null;
+    }
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(List.of());
+
+        final List<Entry> entries;
+        final Map<String, Entry> byCode;
+
+        Snapshot(List<Entry> entries) {
+            this.entries = List.copyOf(entries);
+            Map<String, Entry> byCode = new HashMap<>();
+            for (Entry entry : entries) {
+                byCode.put(entry.code(), entry);
+            }
+            this.byCode = Map.copyOf(byCode);
+        }
+
+        /**
+         * The single lookup by code. Codes are lower-cased when languages are written and
+         * are matched exactly here, because caches and change events are keyed by the
+         * code as the caller gave it; accepting other spellings would split those keys.
+         */
+        Entry get(String code) {
+            return code != null ? byCode.get(code) : null;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.translation.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Collects single-key loads that arrive close together and runs them as one batch load.
+ * A batch is dispatched once its first key has waited for {@code window}, or as soon as
+ * it holds {@code maxBatchSize} keys. Callers asking for the same key while it is
+ * waiting share one result.
+ * <p>
+ * Batch sizes and the time each key waited before its batch was dispatched are recorded,
+ * which shows whether the window is worth its latency.
+ */
+public class MicroBatcher<K, V> {
+
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final ScheduledExecutorService timer;
+    private final Executor loadExecutor;
+    private final DistributionSummary batchSizes;
+    private final Timer waitTimes;
+
+    private final Object lock = new Object();
+    private Map<K, Pending<V>> pending = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param loader       loads a batch; keys missing from the result complete with {@code null}
+     * @param timer        dispatches batches whose window has elapsed
+     * @param loadExecutor runs the loader, so that a slow batch does not hold up the next one
+     */
+    public MicroBatcher(Duration window, int maxBatchSize, Function<Set<K>, Map<K, V>> loader,
+                        ScheduledExecutorService timer, Executor loadExecutor,
+                        DistributionSummary batchSizes, Timer waitTimes) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.loader = loader;
+        this.timer = timer;
+        this.loadExecutor = loadExecutor;
+        this.batchSizes = batchSizes;
+        this.waitTimes = waitTimes;
+    }
+
+    public CompletableFuture<V> load(K key) {
+        Map<K, Pending<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (lock) {
+            Pending<V> entry = pending.computeIfAbsent(key, k -> new Pending<>(System.nanoTime()));
+            future = entry.future;
+            if (pending.size() >= maxBatchSize) {
+                full = takeBatch();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = timer.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    private void flush() {
+        Map<K, Pending<V>> batch;
+        synchronized (lock) {
+            batch = takeBatch();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Map<K, Pending<V>> takeBatch() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        Map<K, Pending<V>> batch = pending;
+        pending = new HashMap<>();
+        return batch;
+    }
+
+    private void dispatch(Map<K, Pending<V>> batch) {
+        long now = System.nanoTime();
+        batchSizes.record(batch.size());
+        for (Pending<V> entry : batch.values()) {
+            waitTimes.record(now - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        try {
+            loadExecutor.execute(() -> run(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(entry -> entry.future.completeExceptionally(e));
+        }
+    }
+
+    private void run(Map<K, Pending<V>> batch) {
+        try {
+            Map<K, V> values = loader.apply(batch.keySet());
+            batch.forEach((key, entry) -> entry.future.complete(values.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.values().forEach(entry -> entry.future.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private static final class Pending<V> {
+
+        private final long enqueuedAt;
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+
+        Pending(long enqueuedAt) {
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
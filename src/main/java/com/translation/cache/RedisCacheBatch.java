@@ -0,0 +1,80 @@
+package com.translation.cache;
+
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-key reads and writes against Redis caches, one round trip per call: {@code MGET}
+ * for reads and a pipeline of {@code SET}s for writes. Keys and values are encoded
+ * exactly as {@code RedisCache} encodes them, so entries are interchangeable with
+ * single-key access.
+ */
+public class RedisCacheBatch {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration configuration;
+
+    public RedisCacheBatch(RedisConnectionFactory connectionFactory, RedisCacheConfiguration configuration) {
+        this.connectionFactory = connectionFactory;
+        this.configuration = configuration;
+    }
+
+    /**
+     * @return the cached values in key order, {@code null} for keys that are not cached
+     */
+    public List<Object> getAll(String cacheName, List<?> keys) {
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = rawKey(cacheName, keys.get(i));
+        }
+        List<byte[]> rawValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        }
+        List<Object> values = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] rawValue = rawValues != null ? rawValues.get(i) : null;
+            values.add(rawValue != null ? configuration.getValueSerializationPair().read(ByteBuffer.wrap(rawValue)) : null);
+        }
+        return values;
+    }
+
+    public void putAll(String cacheName, Map<?, ?> values) {
+        Duration ttl = configuration.getTtl();
+        Expiration expiration = ttl == null || ttl.isZero() || ttl.isNegative()
+                ? Expiration.persistent()
+                : Expiration.from(ttl);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                values.forEach((key, value) -> {
+                    if (value != null) {
+                        connection.stringCommands().set(rawKey(cacheName, key),
+                                ByteUtils.getBytes(configuration.getValueSerializationPair().write(value)),
+                                expiration, RedisStringCommands.SetOption.upsert());
+                    }
+                });
+            } finally {
+                connection.closePipeline();
+            }
+        }
+    }
+
+    private byte[] rawKey(String cacheName, Object key) {
+        String cacheKey = String.valueOf(key);
+        if (configuration.usePrefix()) {
+            cacheKey = configuration.getKeyPrefixFor(cacheName) + cacheKey;
+        }
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(cacheKey));
+    }
+}
@@ -0,0 +1,85 @@
+package com.translation.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived Redis lock that lets a single node rebuild a missing cache entry while the
+ * other nodes poll the shared cache for the result. If Redis is unavailable or the lock
+ * holder takes too long, callers fall back to loading the value themselves.
+ */
+@Slf4j
+public class RedisLoadLock {
+
+    private static final String KEY_PREFIX = "translation:load-lock:";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTimeout;
+    private final Duration pollInterval;
+
+    public RedisLoadLock(StringRedisTemplate redisTemplate, Duration lockTimeout, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.lockTimeout = lockTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Runs the loader while holding the lock for the given entry, or waits for another
+     * holder to publish the value to the shared cache.
+     *
+     * @param loader computes and stores the value in the shared cache
+     * @param probe  looks the value up in the shared cache
+     */
+    public <T> T load(String cacheName, Object key, Callable<T> loader, Supplier<Cache.ValueWrapper> probe) throws Exception {
+        String lockKey = KEY_PREFIX + cacheName + "::" + key;
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            Boolean acquired;
+            try {
+                acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTimeout);
+            } catch (RuntimeException e) {
+                log.warn("Load lock unavailable for {}, loading without it: {}", lockKey, e.getMessage());
+                return loader.call();
+            }
+            if (Boolean.TRUE.equals(acquired)) {
+                try {
+                    return loader.call();
+                } finally {
+                    release(lockKey, token);
+                }
+            }
+
+            Thread.sleep(pollInterval.toMillis());
+            Cache.ValueWrapper loaded = probe.get();
+            if (loaded != null) {
+                @SuppressWarnings("unchecked")
+                T value = (T) loaded.get();
+                return value;
+            }
+        }
+        log.debug("Timed out waiting for load lock {}", lockKey);
+        return loader.call();
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (RuntimeException e) {
+            log.warn("Could not release load lock {}: {}", lockKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.translation.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a bounded in-heap level (L1) in front of a shared remote cache (L2).
+ * <p>
+ * Reads are served from L1 when possible and fall through to L2, populating L1 on the
+ * way back. Evictions are applied to both levels and broadcast so that every other node
+ * drops its L1 copy as well. Keys are compared by their string form across nodes.
+ * <p>
+ * Misses are loaded once per key and node, with all concurrent callers sharing the
+ * result. Optionally a Redis lock extends this across nodes, and the value evicted last
+ * can be served to concurrent callers while its replacement is being loaded.
+ * <p>
+ * Many keys can be read and written at once; with a {@link RedisCacheBatch} the remote
+ * level is then reached in a single round trip instead of one per key.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheMetrics metrics;
+    private final SingleFlight<Object, Object> singleFlight = new SingleFlight<>();
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache;
+    private final RedisLoadLock loadLock;
+    private final RedisCacheBatch remoteBatch;
+
+    /**
+     * @param staleCache  holds evicted values for stale-while-revalidate, or {@code null} to disable it
+     * @param loadLock    cross-node load lock, or {@code null} to coalesce loads per node only
+     * @param remoteBatch multi-key access to the remote level, or {@code null} to access it key by key
+     */
+    TwoLevelCache(String name, Caffeine<Object, Object> localCacheBuilder, Cache remoteCache,
+                  CacheInvalidationPublisher invalidationPublisher, CacheMetrics metrics,
+                  com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache, RedisLoadLock loadLock,
+                  RedisCacheBatch remoteBatch) {
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.metrics = metrics;
+        this.staleCache = staleCache;
+        this.loadLock = loadLock;
+        this.remoteBatch = remoteBatch;
+        this.localCache = localCacheBuilder
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        metrics.localEviction();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value != null) {
+            metrics.localHit();
+            return new SimpleValueWrapper(value);
+        }
+        metrics.localMiss();
+
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            metrics.remoteMiss();
+            return null;
+        }
+        metrics.remoteHit();
+        localCache.put(key, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        if (staleCache != null && singleFlight.isInFlight(key)) {
+            Object stale = staleCache.getIfPresent(key);
+            if (stale != null) {
+                metrics.staleHit();
+                return (T) stale;
+            }
+        }
+        try {
+            return (T) singleFlight.execute(key, () -> load(key, valueLoader));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) throws Exception {
+        // Another node may have stored the value while we were queued
+        ValueWrapper loaded = remoteCache.get(key);
+        if (loaded != null && loaded.get() != null) {
+            localCache.put(key, loaded.get());
+            return loaded.get();
+        }
+
+        Callable<Object> loadAndStore = () -> {
+            Object value = valueLoader.call();
+            if (value != null) {
+                remoteCache.put(key, value);
+            }
+            return value;
+        };
+        Object value = loadLock != null
+                ? loadLock.load(name, key, loadAndStore, () -> remoteCache.get(key))
+                : loadAndStore.call();
+        if (value != null) {
+            localCache.put(key, value);
+            if (staleCache != null) {
+                staleCache.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Looks up many keys at once. Local hits are served directly and the remaining keys
+     * are read from the remote level together, populating the local level on the way back.
+     *
+     * @return values of the keys found
+     */
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>(localCache.getAllPresent(keys));
+        List<Object> missing = new ArrayList<>(new LinkedHashSet<>(keys));
+        missing.removeAll(found.keySet());
+        metrics.localHit(found.size());
+        metrics.localMiss(missing.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        List<Object> values;
+        if (remoteBatch != null) {
+            values = remoteBatch.getAll(name, missing);
+        } else {
+            values = new ArrayList<>(missing.size());
+            for (Object key : missing) {
+                ValueWrapper wrapper = remoteCache.get(key);
+                values.add(wrapper != null ? wrapper.get() : null);
+            }
+        }
+        int remoteHits = 0;
+        for (int i = 0; i < missing.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                localCache.put(missing.get(i), value);
+                found.put(missing.get(i), value);
+                remoteHits++;
+            }
+        }
+        metrics.remoteHit(remoteHits);
+        metrics.remoteMiss(missing.size() - remoteHits);
+        return found;
+    }
+
+    /**
+     * Stores many values at once; {@code null} values are skipped as with {@link #put}.
+     */
+    public void putAll(Map<?, ?> values) {
+        if (remoteBatch != null) {
+            remoteBatch.putAll(name, values);
+        } else {
+            values.forEach((key, value) -> {
+                if (value != null) {
+                    remoteCache.put(key, value);
+                }
+            });
+        }
+        values.forEach((key, value) -> {
+            if (value != null) {
+                localCache.put(key, value);
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        retainStale(key);
+        localCache.invalidate(key);
+        remoteCache.evict(key);
+        metrics.localEviction();
+        metrics.remoteEviction();
+        invalidationPublisher.publish(name, key);
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        remoteCache.clear();
+        invalidationPublisher.publish(name, null);
+    }
+
+    /**
+     * Drops an entry from the near cache only, in response to an eviction on another node.
+     */
+    void evictLocal(Object key) {
+        retainStale(key);
+        localCache.invalidate(key);
+        metrics.localEviction();
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private void retainStale(Object key) {
+        if (staleCache == null) {
+            return;
+        }
+        Object previous = localCache.getIfPresent(key);
+        if (previous != null) {
+            staleCache.put(key, previous);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.translation.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Wraps every cache of the remote {@link CacheManager} into a {@link TwoLevelCache}.
+ * Caches are transaction aware by default, so evictions issued from a transactional
+ * write are applied (and broadcast) only after the commit.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final long localMaximumWeight;
+    private final Duration localExpireAfterWrite;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private Duration staleTimeToLive;
+    private RedisLoadLock loadLock;
+    private RedisCacheBatch remoteBatch;
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                long localMaximumWeight,
+                                Duration localExpireAfterWrite,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localMaximumWeight = localMaximumWeight;
+        this.localExpireAfterWrite = localExpireAfterWrite;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        setTransactionAware(true);
+    }
+
+    /**
+     * Keeps evicted values for the given time so they can be served while a replacement
+     * is loaded. Disabled when {@code null}.
+     */
+    public void setStaleTimeToLive(Duration staleTimeToLive) {
+        this.staleTimeToLive = staleTimeToLive;
+    }
+
+    /**
+     * Coalesces loads across nodes with the given lock. Loads are coalesced per node only
+     * when {@code null}.
+     */
+    public void setLoadLock(RedisLoadLock loadLock) {
+        this.loadLock = loadLock;
+    }
+
+    /**
+     * Reads and writes many remote entries in one round trip. Multi-key access falls back
+     * to one remote call per key when {@code null}.
+     */
+    public void setRemoteBatch(RedisCacheBatch remoteBatch) {
+        this.remoteBatch = remoteBatch;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> staleCache = staleTimeToLive != null
+                ? Caffeine.newBuilder()
+                        .maximumWeight(localMaximumWeight / 4)
+                        .weigher(new CacheValueWeigher())
+                        .expireAfterWrite(staleTimeToLive)
+                        .build()
+                : null;
+        return new TwoLevelCache(name, localCacheBuilder(), remoteCache, invalidationPublisher,
+                new CacheMetrics(meterRegistry, name), staleCache, loadLock, remoteBatch);
+    }
+
+    private Caffeine<Object, Object> localCacheBuilder() {
+        return Caffeine.newBuilder()
+                .maximumWeight(localMaximumWeight)
+                .weigher(new CacheValueWeigher())
+                .expireAfterWrite(localExpireAfterWrite);
+    }
+
+    /**
+     * Applies an invalidation received from another node to the local level only.
+     *
+     * @param key evicted key, or {@code null} to clear the whole cache
+     */
+    public void evictLocal(String cacheName, String key) {
+        Cache cache = lookupCache(cacheName);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        if (!(cache instanceof TwoLevelCache twoLevelCache)) {
+            return;
+        }
+        if (key == null) {
+            twoLevelCache.clearLocal();
+        } else {
+            twoLevelCache.evictLocal(key);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.translation.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.cache.CacheInvalidationListener;
+import com.translation.cache.CacheInvalidationPublisher;
+import com.translation.cache.CacheValueCodec;
+import com.translation.cache.LanguageRegistry;
+import com.translation.cache.RedisCacheBatch;
+import com.translation.cache.RedisLoadLock;
+import com.translation.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Two-level caching: a Caffeine near cache per node in front of the Redis caches
+ * configured under {@code spring.cache.redis}. Only active when Redis caching is enabled,
+ * so profiles using {@code spring.cache.type: none} are unaffected.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Value("${translation.cache.local.maximum-weight:64MB}")
+    private DataSize localMaximumWeight;
+
+    @Value("${translation.cache.local.expire-after-write:10m}")
+    private Duration localExpireAfterWrite;
+
+    @Value("${translation.cache.stale-while-revalidate:true}")
+    private boolean staleWhileRevalidate;
+
+    @Value("${translation.cache.stale-ttl:30s}")
+    private Duration staleTimeToLive;
+
+    @Value("${translation.cache.load-lock.enabled:false}")
+    private boolean loadLockEnabled;
+
+    @Value("${translation.cache.load-lock.timeout:5s}")
+    private Duration loadLockTimeout;
+
+    @Value("${translation.cache.load-lock.poll-interval:50ms}")
+    private Duration loadLockPollInterval;
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate redisTemplate,
+                                                                 ObjectMapper objectMapper) {
+        return new CacheInvalidationPublisher(redisTemplate, objectMapper);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             CacheProperties cacheProperties,
+                                             CacheInvalidationPublisher invalidationPublisher,
+                                             StringRedisTemplate redisTemplate,
+                                             MeterRegistry meterRegistry) {
+        CacheProperties.Redis redisProperties = cacheProperties.getRedis();
+        RedisCacheConfiguration redisConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CacheValueCodec()));
+        if (redisProperties.getTimeToLive() != null) {
+            redisConfiguration = redisConfiguration.entryTtl(redisProperties.getTimeToLive());
+        }
+        if (!redisProperties.isCacheNullValues()) {
+            redisConfiguration = redisConfiguration.disableCachingNullValues();
+        }
+
+        RedisCacheManager remoteCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisConfiguration)
+                .build();
+        remoteCacheManager.afterPropertiesSet();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(remoteCacheManager,
+                localMaximumWeight.toBytes(), localExpireAfterWrite, invalidationPublisher, meterRegistry);
+        cacheManager.setRemoteBatch(new RedisCacheBatch(connectionFactory, redisConfiguration));
+        if (staleWhileRevalidate) {
+            cacheManager.setStaleTimeToLive(staleTimeToLive);
+        }
+        if (loadLockEnabled) {
+            cacheManager.setLoadLock(new RedisLoadLock(redisTemplate, loadLockTimeout, loadLockPollInterval));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            LanguageRegistry languageRegistry,
+                                                                            CacheInvalidationPublisher invalidationPublisher,
+                                                                            ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(cacheManager, languageRegistry, objectMapper,
+                        invalidationPublisher.getNodeId()),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,60 @@
+package com.translation.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Detects the underlying database once at startup so hand-written SQL can use
+ * vendor specific features (PostgreSQL in production, H2 in tests).
+ */
+@Slf4j
+@Component
+public class DatabasePlatform {
+
+    public enum Vendor { POSTGRESQL, H2, OTHER }
+
+    private final Vendor vendor;
+
+    public DatabasePlatform(DataSource dataSource) {
+        this.vendor = detect(dataSource);
+        log.info("Detected database platform: {}", vendor);
+    }
+
+    public Vendor getVendor() {
+        return vendor;
+    }
+
+    public boolean isPostgres() {
+        return vendor == Vendor.POSTGRESQL;
+    }
+
+    /**
+     * Returns an ORDER BY expression that sorts the given column by raw code points,
+     * independent of the database collation. Streaming writers rely on every key sharing
+     * a prefix being contiguous, which locale aware collations do not guarantee.
+     */
+    public String binaryOrder(String column) {
+        return isPostgres() ? column + " COLLATE \"C\"" : column;
+    }
+
+    private static Vendor detect(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            if ("PostgreSQL".equalsIgnoreCase(productName)) {
+                return Vendor.POSTGRESQL;
+            }
+            if ("H2".equalsIgnoreCase(productName)) {
+                return Vendor.H2;
+            }
+            return Vendor.OTHER;
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect database platform: {}", e.getMessage());
+            return Vendor.OTHER;
+        }
+    }
+}
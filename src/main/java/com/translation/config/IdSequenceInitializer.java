@@ -0,0 +1,49 @@
+package com.translation.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the entity id sequences past the ids already in use. Tables created while ids
+ * were still identity columns get fresh sequences that would otherwise start at 1.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "languages", "languages_seq",
+            "translations", "translations_seq",
+            "tags", "tags_seq",
+            "translation_changes", "translation_changes_seq");
+
+    private final DatabasePlatform databasePlatform;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!databasePlatform.isPostgres()) {
+            return;
+        }
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                // The next block handed out starts right after the highest existing id
+                jdbcTemplate.query("SELECT setval('" + sequence + "', m.max_id) " +
+                                   "FROM (SELECT MAX(id) AS max_id FROM " + table + ") m " +
+                                   "WHERE m.max_id > (SELECT last_value FROM " + sequence + ")",
+                        rs -> {
+                            log.info("Advanced sequence {} to {}", sequence, rs.getLong(1));
+                        });
+            } catch (DataAccessException e) {
+                log.warn("Could not align sequence {}: {}", sequence, e.getMessage());
+            }
+        });
+    }
+}
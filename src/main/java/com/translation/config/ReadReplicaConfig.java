@@ -0,0 +1,109 @@
+package com.translation.config;
+
+import com.translation.datasource.ReplicaRead;
+import com.translation.datasource.ReplicaReadInterceptor;
+import com.translation.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the read-only transactions of {@link ReplicaRead} methods to the read replicas
+ * listed under {@code translation.datasource.replicas.urls}, which share the driver,
+ * credentials and {@code spring.datasource.hikari} pool settings of the primary. Replaces the auto-configured data source, so
+ * without {@code translation.datasource.replicas.enabled} nothing changes.
+ * <p>
+ * Clients are told apart by their authenticated user name for read-your-writes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "translation.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${translation.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${translation.datasource.replicas.max-lag:PT5S}")
+    private Duration maxLag;
+
+    @Value("${translation.datasource.replicas.read-your-writes-window:PT5S}")
+    private Duration readYourWritesWindow;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties, Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(properties, binder, properties.determineUrl(), "primary");
+        List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = pool(properties, binder, replicaUrls.get(i), "replica-" + i);
+            replica.setReadOnly(true);
+            // A replica that is down must not keep the application from starting
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, maxLag,
+                readYourWritesWindow, ReadReplicaConfig::currentUser);
+        routing.checkReplicas();
+        Gauge.builder("translation.datasource.replicas.healthy", routing, ReplicaRoutingDataSource::healthyReplicas)
+                .description("Read replicas currently receiving reads")
+                .register(meterRegistry);
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor replicaReadAdvisor() {
+        return new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class),
+                new ReplicaReadInterceptor());
+    }
+
+    /**
+     * Builds a pool like the auto-configured one, with the {@code spring.datasource.hikari}
+     * settings applied.
+     */
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String url, String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setJdbcUrl(url);
+        pool.setPoolName(poolName);
+        return pool;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
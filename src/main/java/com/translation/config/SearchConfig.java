@@ -0,0 +1,47 @@
+package com.translation.config;
+
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationRepository;
+import com.translation.search.InMemoryTranslationSearchBackend;
+import com.translation.search.JpaTranslationSearchBackend;
+import com.translation.search.PostgresTranslationSearchBackend;
+import com.translation.search.TranslationSearchBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Selects the search backend with {@code translation.search.backend}: {@code postgres},
+ * {@code jpa}, {@code memory} for the in-process n-gram index, or {@code auto} to use
+ * PostgreSQL full-text search when running on it.
+ */
+@Slf4j
+@Configuration
+public class SearchConfig {
+
+    @Value("${translation.search.backend:auto}")
+    private String backend;
+
+    @Bean
+    public TranslationSearchBackend translationSearchBackend(DatabasePlatform databasePlatform,
+                                                             NamedParameterJdbcTemplate jdbcTemplate,
+                                                             TranslationRepository translationRepository,
+                                                             LanguageRepository languageRepository,
+                                                             TranslationChangeRepository translationChangeRepository,
+                                                             MeterRegistry meterRegistry) {
+        JpaTranslationSearchBackend jpaBackend = new JpaTranslationSearchBackend(translationRepository);
+        String selected = "auto".equals(backend) ? (databasePlatform.isPostgres() ? "postgres" : "jpa") : backend;
+        log.info("Using {} search backend", selected);
+        return switch (selected) {
+            case "postgres" -> new PostgresTranslationSearchBackend(jdbcTemplate, translationRepository, jpaBackend);
+            case "memory" -> new InMemoryTranslationSearchBackend(jdbcTemplate, languageRepository,
+                    translationChangeRepository, meterRegistry);
+            case "jpa" -> jpaBackend;
+            default -> throw new IllegalStateException("Unknown search backend: " + backend);
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.translation.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Adds the unique (translation_key, language_id) constraint that the bulk upsert relies on
+ * to databases created before it existed. Schema update cannot add it while duplicate
+ * rows exist; these fail startup unless {@code translation.schema.remove-duplicate-translations}
+ * is set, which keeps the most recently updated translation of every key and language.
+ * Nodes starting together take turns through an advisory lock.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationKeyConstraintInitializer implements SmartInitializingSingleton {
+
+    private static final String CONSTRAINT = "uk_translation_key_language";
+    private static final String DUPLICATES =
+            "SELECT d.id FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY translation_key, language_id " +
+            "ORDER BY updated_at DESC NULLS LAST, id DESC) AS r FROM translations) d WHERE d.r > 1";
+    private static final int LOGGED_DUPLICATES = 20;
+
+    private final DatabasePlatform databasePlatform;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${translation.schema.remove-duplicate-translations:false}")
+    private boolean removeDuplicates;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!databasePlatform.isPostgres()) {
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // Released on commit; the other nodes then find the constraint in place
+                jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext(?))", Object.class, CONSTRAINT);
+                Long existing = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM pg_constraint WHERE conname = ?", Long.class, CONSTRAINT);
+                if (existing != null && existing > 0) {
+                    return;
+                }
+                List<String> duplicates = jdbcTemplate.query(
+                        "SELECT l.code, t.translation_key, COUNT(*) FROM translations t " +
+                        "JOIN languages l ON l.id = t.language_id " +
+                        "GROUP BY l.code, t.translation_key HAVING COUNT(*) > 1 " +
+                        "ORDER BY l.code, t.translation_key LIMIT " + LOGGED_DUPLICATES,
+                        (rs, row) -> rs.getString(1) + "/" + rs.getString(2) + " (" + rs.getLong(3) + " rows)");
+                if (!duplicates.isEmpty()) {
+                    if (!removeDuplicates) {
+                        throw new IllegalStateException("Cannot add constraint " + CONSTRAINT +
+                                ": translations are duplicated, such as " + String.join(", ", duplicates) +
+                                ". Merge them, or set translation.schema.remove-duplicate-translations=true " +
+                                "to keep only the most recently updated of each");
+                    }
+                    log.warn("Removing duplicate translations, such as {}", String.join(", ", duplicates));
+                    jdbcTemplate.update("DELETE FROM translation_tags WHERE translation_id IN (" + DUPLICATES + ")");
+                    int removed = jdbcTemplate.update("DELETE FROM translations WHERE id IN (" + DUPLICATES + ")");
+                    log.warn("Removed {} duplicate translations", removed);
+                }
+                jdbcTemplate.execute("ALTER TABLE translations ADD CONSTRAINT " + CONSTRAINT +
+                                     " UNIQUE (translation_key, language_id)");
+                log.info("Added constraint {}", CONSTRAINT);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Could not add constraint {}, bulk upserts will fail: {}", CONSTRAINT, e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.translation.controller;
 
 import com.translation.dto.LanguageDto;
+import com.translation.dto.LanguageResponseDto;
+import com.translation.dto.NamespaceDto;
 import com.translation.model.Language;
 import com.translation.service.LanguageService;
+import com.translation.service.NamespaceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,40 +24,62 @@ import java.util.List;
 public class LanguageController {
 
     private final LanguageService languageService;
+    private final NamespaceService namespaceService;
 
     @PostMapping
     @Operation(summary = "Create a new language")
-    public ResponseEntity<Language> createLanguage(@Valid @RequestBody LanguageDto languageDto) {
+    public ResponseEntity<LanguageResponseDto> createLanguage(@Valid @RequestBody LanguageDto languageDto) {
         Language language = languageService.createLanguage(languageDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(language);
+        return ResponseEntity.status(HttpStatus.CREATED).body(languageService.getLanguage(language.getCode()));
     }
 
     @PutMapping("/{code}")
     @Operation(summary = "Update an existing language")
-    public ResponseEntity<Language> updateLanguage(
+    public ResponseEntity<LanguageResponseDto> updateLanguage(
             @Parameter(description = "Language code", required = true)
             @PathVariable String code,
             @Valid @RequestBody LanguageDto languageDto) {
         Language language = languageService.updateLanguage(code, languageDto);
-        return ResponseEntity.ok(language);
+        return ResponseEntity.ok(languageService.getLanguage(language.getCode()));
+    }
+
+    @PostMapping("/{code}/clone")
+    @Operation(summary = "Create a new language with a copy of every translation of an existing one")
+    public ResponseEntity<LanguageResponseDto> cloneLanguage(
+            @Parameter(description = "Code of the language to copy", required = true)
+            @PathVariable String code,
+            @Valid @RequestBody LanguageDto languageDto) {
+        LanguageResponseDto language = languageService.cloneLanguage(code, languageDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(language);
     }
 
     @GetMapping("/{code}")
     @Operation(summary = "Get a language by code")
-    public ResponseEntity<Language> getLanguage(
+    public ResponseEntity<LanguageResponseDto> getLanguage(
             @Parameter(description = "Language code", required = true)
             @PathVariable String code) {
-        Language language = languageService.getLanguage(code);
+        LanguageResponseDto language = languageService.getLanguage(code);
         return ResponseEntity.ok(language);
     }
 
     @GetMapping
     @Operation(summary = "Get all languages")
-    public ResponseEntity<List<Language>> getAllLanguages() {
-        List<Language> languages = languageService.getAllLanguages();
+    public ResponseEntity<List<LanguageResponseDto>> getAllLanguages() {
+        List<LanguageResponseDto> languages = languageService.getAllLanguages();
         return ResponseEntity.ok(languages);
     }
 
+    @GetMapping("/{code}/namespaces")
+    @Operation(summary = "List the children of a key namespace with the number of keys below each")
+    public ResponseEntity<NamespaceDto> getNamespace(
+            @Parameter(description = "Language code", required = true)
+            @PathVariable String code,
+            @Parameter(description = "Dot-separated key prefix; empty for the top level")
+            @RequestParam(defaultValue = "") String prefix) {
+        NamespaceDto namespace = namespaceService.getNamespace(code, prefix);
+        return ResponseEntity.ok(namespace);
+    }
+
     @DeleteMapping("/{code}")
     @Operation(summary = "Delete a language")
     @ResponseStatus(HttpStatus.NO_CONTENT)
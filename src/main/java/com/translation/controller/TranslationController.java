@@ -1,8 +1,30 @@
 package com.translation.controller;
 
+import com.translation.cache.CacheAccessTracker;
+import com.translation.dto.BatchTranslationRequestDto;
+import com.translation.dto.BatchTranslationResultDto;
+import com.translation.dto.BulkTranslationRequestDto;
+import com.translation.dto.BulkTranslationResultDto;
+import com.translation.dto.CursorSearchRequestDto;
+import com.translation.dto.ImportJobDto;
 import com.translation.dto.SearchRequestDto;
+import com.translation.dto.TagQueryRequestDto;
+import com.translation.dto.TagQueryResultDto;
+import com.translation.dto.TranslationCursorPageDto;
+import com.translation.dto.TranslationDeltaDto;
 import com.translation.dto.TranslationDto;
+import com.translation.dto.TranslationResponseDto;
+import com.translation.exception.BadRequestException;
+import com.translation.importer.ImportFormat;
 import com.translation.model.Translation;
+import com.translation.service.ExportSnapshot;
+import com.translation.service.ExportSnapshotService;
+import com.translation.service.TagIndexService;
+import com.translation.service.TranslationBulkService;
+import com.translation.service.TranslationExportService;
+import com.translation.service.TranslationImportService;
+import com.translation.service.TranslationLookupService;
+import com.translation.service.TranslationRevisionService;
 import com.translation.service.TranslationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,11 +32,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/translations")
@@ -22,32 +52,94 @@ import java.util.Map;
 @Tag(name = "Translations", description = "Translation management endpoints")
 public class TranslationController {
 
+    private static final String REVISION_HEADER = "X-Translation-Revision";
+
     private final TranslationService translationService;
+    private final TranslationBulkService translationBulkService;
+    private final TranslationImportService translationImportService;
+    private final TranslationExportService translationExportService;
+    private final ExportSnapshotService exportSnapshotService;
+    private final TranslationRevisionService translationRevisionService;
+    private final TranslationLookupService translationLookupService;
+    private final TagIndexService tagIndexService;
+    private final CacheAccessTracker cacheAccessTracker;
 
     @PostMapping
     @Operation(summary = "Create a new translation")
-    public ResponseEntity<Translation> createTranslation(@Valid @RequestBody TranslationDto translationDto) {
+    public ResponseEntity<TranslationResponseDto> createTranslation(@Valid @RequestBody TranslationDto translationDto) {
         Translation translation = translationService.createTranslation(translationDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(translation);
+        return ResponseEntity.status(HttpStatus.CREATED).body(TranslationResponseDto.from(translation, translationDto.getLanguageCode()));
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Create or update many translations at once, with a result per translation")
+    public ResponseEntity<BulkTranslationResultDto> upsertTranslations(
+            @Valid @RequestBody BulkTranslationRequestDto bulkRequest) {
+        BulkTranslationResultDto result = translationBulkService.upsertTranslations(bulkRequest.getTranslations());
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get many translations in one call, listing the keys that have none")
+    public ResponseEntity<BatchTranslationResultDto> getTranslations(
+            @Valid @RequestBody BatchTranslationRequestDto batchRequest) {
+        BatchTranslationResultDto result = translationLookupService.getTranslations(
+                batchRequest.getKeys(), batchRequest.getLanguageCodes());
+        result.getTranslations().forEach((languageCode, contents) ->
+                contents.keySet().forEach(key -> cacheAccessTracker.record(languageCode, key)));
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/import/{languageCode}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import a JSON, CSV, XLIFF or PO file in the background; poll the returned import for progress")
+    public ResponseEntity<ImportJobDto> importTranslations(
+            @Parameter(description = "Language code", required = true) @PathVariable String languageCode,
+            @Parameter(description = "Translation file", required = true) @RequestParam MultipartFile file,
+            @Parameter(description = "json, csv, xliff or po; derived from the file name if absent")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "Report what would change without writing") @RequestParam(defaultValue = "false") boolean dryRun)
+            throws IOException {
+        ImportFormat importFormat = format != null ? ImportFormat.of(format)
+                : ImportFormat.fromFileName(file.getOriginalFilename()).orElseThrow(() ->
+                        new BadRequestException("Unknown file type, pass the format parameter"));
+        ImportJobDto job;
+        try (InputStream in = file.getInputStream()) {
+            job = translationImportService.startImport(languageCode, importFormat, dryRun, in);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/translations/import/jobs/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/import/jobs/{id}")
+    @Operation(summary = "Get the progress and counts of an import")
+    public ResponseEntity<ImportJobDto> getImport(
+            @Parameter(description = "Import id", required = true) @PathVariable String id) {
+        return ResponseEntity.ok(translationImportService.getImport(id));
     }
 
     @PutMapping("/{key}/{languageCode}")
     @Operation(summary = "Update an existing translation")
-    public ResponseEntity<Translation> updateTranslation(
+    public ResponseEntity<TranslationResponseDto> updateTranslation(
             @Parameter(description = "Translation key", required = true) @PathVariable String key,
             @Parameter(description = "Language code", required = true) @PathVariable String languageCode,
             @Valid @RequestBody TranslationDto translationDto) {
         Translation translation = translationService.updateTranslation(key, languageCode, translationDto);
-        return ResponseEntity.ok(translation);
+        return ResponseEntity.ok(TranslationResponseDto.from(translation));
     }
 
     @GetMapping("/{key}/{languageCode}")
     @Operation(summary = "Get a translation by key and language code")
-    public ResponseEntity<Translation> getTranslation(
+    public ResponseEntity<TranslationResponseDto> getTranslation(
             @Parameter(description = "Translation key", required = true) @PathVariable String key,
-            @Parameter(description = "Language code", required = true) @PathVariable String languageCode) {
-        Translation translation = translationService.getTranslation(key, languageCode);
-        return ResponseEntity.ok(translation);
+            @Parameter(description = "Language code", required = true) @PathVariable String languageCode,
+            @Parameter(description = "Look the key up in the fallback languages if the language lacks it")
+            @RequestParam(defaultValue = "false") boolean fallback) {
+        Translation translation = fallback
+                ? translationLookupService.getTranslationWithFallback(key, languageCode)
+                : translationLookupService.getTranslation(key, languageCode);
+        cacheAccessTracker.record(translation.getLanguage().getCode(), key);
+        return ResponseEntity.ok(TranslationResponseDto.from(translation));
     }
 
     @DeleteMapping("/{key}/{languageCode}")
@@ -61,21 +153,115 @@ public class TranslationController {
 
     @PostMapping("/search")
     @Operation(summary = "Search translations with pagination")
-    public ResponseEntity<Page<Translation>> searchTranslations(@Valid @RequestBody SearchRequestDto searchRequest) {
+    public ResponseEntity<Page<TranslationResponseDto>> searchTranslations(@Valid @RequestBody SearchRequestDto searchRequest) {
         Page<Translation> translations = translationService.searchTranslations(
             searchRequest.getSearchTerm(),
             searchRequest.getTags(),
             searchRequest.getPage(),
             searchRequest.getSize()
         );
-        return ResponseEntity.ok(translations);
+        return ResponseEntity.ok(translations.map(TranslationResponseDto::from));
+    }
+
+    @PostMapping("/search/cursor")
+    @Operation(summary = "Search translations ordered by key, paging with an opaque cursor")
+    public ResponseEntity<TranslationCursorPageDto> searchTranslationsAfter(
+            @Valid @RequestBody CursorSearchRequestDto searchRequest) {
+        TranslationCursorPageDto page = translationService.searchTranslationsAfter(
+            searchRequest.getSearchTerm(),
+            searchRequest.getTags(),
+            searchRequest.getCursor(),
+            searchRequest.getSize(),
+            searchRequest.isIncludeTotal()
+        );
+        return ResponseEntity.ok(page);
+    }
+
+    @PostMapping("/tags/query")
+    @Operation(summary = "Filter translations by a boolean tag expression, with match counts per tag")
+    public ResponseEntity<TagQueryResultDto> queryByTags(@Valid @RequestBody TagQueryRequestDto queryRequest) {
+        TagQueryResultDto result = tagIndexService.query(
+            queryRequest.getExpression(),
+            queryRequest.getLanguageCodes(),
+            queryRequest.getPage(),
+            queryRequest.getSize(),
+            queryRequest.isFacets()
+        );
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/export/{languageCode}")
-    @Operation(summary = "Export translations for a specific language in a nested JSON structure")
-    public ResponseEntity<Map<String, Object>> exportTranslations(
-            @Parameter(description = "Language code", required = true) @PathVariable String languageCode) {
-        Map<String, Object> translations = translationService.getTranslationsForLanguage(languageCode);
-        return ResponseEntity.ok(translations);
+    @Operation(summary = "Export translations for a specific language in a nested JSON structure",
+               description = "At most one of stream, prefix, since and fallback can be given")
+    public ResponseEntity<?> exportTranslations(
+            @Parameter(description = "Language code", required = true) @PathVariable String languageCode,
+            @Parameter(description = "Stream the export without building it in memory")
+            @RequestParam(defaultValue = "false") boolean stream,
+            @Parameter(description = "Export only the keys below this dot-separated namespace, relative to it")
+            @RequestParam(required = false) String prefix,
+            @Parameter(description = "Export only the keys added, updated or removed since this revision")
+            @RequestParam(required = false) Long since,
+            @Parameter(description = "Fill in the keys the language lacks from its fallback languages")
+            @RequestParam(defaultValue = "false") boolean fallback,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        int modes = (stream ? 1 : 0) + (prefix != null ? 1 : 0) + (since != null ? 1 : 0) + (fallback ? 1 : 0);
+        if (modes > 1) {
+            throw new BadRequestException("Only one of stream, prefix, since and fallback can be given");
+        }
+        if (stream) {
+            return streamResponse(out -> translationExportService.writeTranslations(languageCode, out));
+        }
+        if (prefix != null) {
+            String namespace = prefix.endsWith(".") ? prefix.substring(0, prefix.length() - 1) : prefix;
+            return streamResponse(out -> translationExportService.writeNamespace(languageCode, namespace, out));
+        }
+        if (since != null) {
+            TranslationDeltaDto delta = translationRevisionService.getDelta(languageCode, since);
+            return ResponseEntity.ok(delta);
+        }
+        if (fallback) {
+            // No revision header: the merged revision cannot be passed to since
+            return snapshotResponse(exportSnapshotService.getMergedSnapshot(languageCode), acceptEncoding,
+                    ResponseEntity.ok());
+        }
+        ExportSnapshot snapshot = exportSnapshotService.getSnapshot(languageCode);
+        return snapshotResponse(snapshot, acceptEncoding, ResponseEntity.ok()
+                .header(REVISION_HEADER, String.valueOf(snapshot.getRevision())));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> streamResponse(StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static ResponseEntity<byte[]> snapshotResponse(ExportSnapshot snapshot, String acceptEncoding,
+                                                           ResponseEntity.BodyBuilder response) {
+        // Returning the ETag lets Spring answer matching If-None-Match requests with 304
+        response.contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response
+                    .eTag(snapshot.getEtag() + "-gzip")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(snapshot.getGzip());
+        }
+        return response
+                .eTag(snapshot.getEtag())
+                .body(snapshot.getJson());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 }
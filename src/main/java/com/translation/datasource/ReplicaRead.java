@@ -0,0 +1,22 @@
+package com.translation.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets the read-only transaction of the annotated method run on a read replica when
+ * replicas are configured. Transactions that are not read-only, or that joined one that
+ * is not, stay on the primary.
+ * <p>
+ * Only for reads whose results are not cached: a replica may lag behind by up to
+ * {@code translation.datasource.replicas.max-lag}, and a cached stale result would
+ * outlive the lag.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,28 @@
+package com.translation.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Marks the thread while a {@link ReplicaRead} method runs, so that
+ * {@link ReplicaRoutingDataSource} may hand out replica connections to it.
+ */
+public class ReplicaReadInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> false);
+
+    static boolean isActive() {
+        return ACTIVE.get();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        boolean previous = ACTIVE.get();
+        ACTIVE.set(true);
+        try {
+            return invocation.proceed();
+        } finally {
+            ACTIVE.set(previous);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.translation.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hands out replica connections to read-only transactions started by {@link ReplicaRead}
+ * methods, and primary connections to everything else.
+ * <p>
+ * Among the healthy replicas the one with the fewest connections in use is picked, ties
+ * going round-robin. A replica is healthy while its last check succeeded and it lagged
+ * at most {@code maxLag} behind; one that fails to hand out a connection is taken out
+ * until the next check, and reads fall back to the primary while no replica is healthy.
+ * A client that committed a write reads from the primary for {@code readYourWritesWindow}
+ * afterwards, so it sees its own write even on a lagging replica.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction managers fetch the connection before the transaction is marked
+ * read-only.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // Replay lag on a PostgreSQL standby; zero on a primary and on a standby that replayed everything it received
+    private static final String POSTGRES_LAG =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Supplier<String> clientId;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    // Transaction resource marking that the transaction's write is already being tracked
+    private final Object writeTracking = new Object();
+
+    /**
+     * @param clientId identifies the client on whose behalf the current thread runs, or
+     *                 returns {@code null} for work that is not done for a client
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                    Duration readYourWritesWindow, Supplier<String> clientId) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            DataSource replica = replicas.get(i);
+            this.replicas.add(new Replica(replica instanceof HikariDataSource hikari && hikari.getPoolName() != null
+                    ? hikari.getPoolName() : "replica-" + i, replica));
+        }
+        this.maxLag = maxLag;
+        this.clientId = clientId;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return primary.getConnection();
+        }
+        if (!ReplicaReadInterceptor.isActive() || wroteRecently()) {
+            return primary.getConnection();
+        }
+        Replica replica = select();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            replica.markDown(e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Connections for other credentials always come from the primary.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Checks every replica for availability and lag.
+     */
+    @Scheduled(initialDelayString = "${translation.datasource.replicas.health-check-interval:PT5S}",
+               fixedDelayString = "${translation.datasource.replicas.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                Duration lag = lag(connection);
+                if (lag.compareTo(maxLag) > 0) {
+                    replica.markDown("lagging " + lag.toMillis() + " ms behind");
+                } else {
+                    replica.markUp();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    public int healthyReplicas() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Replica select() {
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        Replica selected = null;
+        int selectedActive = Integer.MAX_VALUE;
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            int active = replica.activeConnections();
+            if (active < selectedActive) {
+                selected = replica;
+                selectedActive = active;
+            }
+        }
+        return selected;
+    }
+
+    private boolean wroteRecently() {
+        String client = clientId.get();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+
+    /**
+     * Remembers the client once the read-write transaction asking for a connection commits.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeTracking)) {
+            return;
+        }
+        String client = clientId.get();
+        if (client == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeTracking, client);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeTracking);
+                if (status == STATUS_COMMITTED) {
+                    recentWriters.put(client, Boolean.TRUE);
+                }
+            }
+        });
+    }
+
+    private static Duration lag(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                throw new SQLException("Connection is not valid");
+            }
+            return Duration.ZERO;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(POSTGRES_LAG)) {
+            rs.next();
+            return Duration.ofMillis(rs.getLong(1));
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile boolean checked;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean pool = dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+
+        void markUp() {
+            if (!healthy) {
+                log.info("Read replica {} is available", name);
+                healthy = true;
+            }
+            checked = true;
+        }
+
+        void markDown(String reason) {
+            if (healthy || !checked) {
+                log.warn("Read replica {} is unavailable, reading from the primary: {}", name, reason);
+                healthy = false;
+            }
+            checked = true;
+        }
+    }
+}
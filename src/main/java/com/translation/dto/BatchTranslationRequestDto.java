@@ -0,0 +1,19 @@
+package com.translation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class BatchTranslationRequestDto {
+    @NotEmpty(message = "At least one key is required")
+    @Size(max = 1000, message = "At most 1000 keys per request")
+    private Set<@NotBlank String> keys;
+
+    @NotEmpty(message = "At least one language code is required")
+    @Size(max = 20, message = "At most 20 languages per request")
+    private Set<@NotBlank String> languageCodes;
+}
@@ -0,0 +1,23 @@
+package com.translation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Set;
+
+@Data
+@Builder
+public class BatchTranslationResultDto {
+
+    /**
+     * Content per key, per language code.
+     */
+    private Map<String, Map<String, String>> translations;
+
+    /**
+     * Requested keys without a translation, per language code. Unknown languages list
+     * every key.
+     */
+    private Map<String, Set<String>> missing;
+}
@@ -0,0 +1,15 @@
+package com.translation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkTranslationRequestDto {
+    @NotEmpty(message = "At least one translation is required")
+    @Size(max = 10000, message = "At most 10000 translations per request")
+    private List<@Valid TranslationDto> translations;
+}
@@ -0,0 +1,27 @@
+package com.translation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk upsert, with one item per requested translation in request order.
+ */
+@Data
+@Builder
+public class BulkTranslationResultDto {
+    private int created;
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private List<Item> items;
+
+    public enum Status { CREATED, UPDATED, UNCHANGED, FAILED }
+
+    /**
+     * @param error why the translation was not written; {@code null} unless it failed
+     */
+    public record Item(String key, String languageCode, Status status, String error) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.translation.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class CursorSearchRequestDto {
+    private String searchTerm;
+    private Set<String> tags;
+
+    /**
+     * Token from the previous page's {@code nextCursor}; absent for the first page.
+     */
+    private String cursor;
+
+    @NotNull(message = "Page size is required")
+    @Min(value = 1, message = "Page size must be greater than 0")
+    @Max(value = 1000, message = "Page size must not exceed 1000")
+    private Integer size = 20;
+
+    /**
+     * Counting all matches costs a full scan, so it is only done on request.
+     */
+    private boolean includeTotal;
+}
@@ -0,0 +1,42 @@
+package com.translation.dto;
+
+import com.translation.importer.ImportFormat;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of a file import. Counts grow while the import runs; {@code changes} is only
+ * filled by dry runs, up to a configured number of entries.
+ */
+@Data
+@Builder
+public class ImportJobDto {
+    private String id;
+    private String languageCode;
+    private ImportFormat format;
+    private boolean dryRun;
+    private Status status;
+    private long bytesTotal;
+    private long bytesRead;
+    private long entriesRead;
+    private long created;
+    private long updated;
+    private long unchanged;
+    private long skipped;
+    private long failed;
+    private List<Change> changes;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    /**
+     * @param previousContent current content, or {@code null} if the key would be created
+     */
+    public record Change(String key, String previousContent, String content) {
+    }
+}
@@ -16,4 +16,12 @@ public class LanguageDto {
     @NotBlank(message = "Language name is required")
     @Size(min = 2, max = 50, message = "Language name must be between 2 and 50 characters")
     private String name;
+
+    /**
+     * Language to fall back to for missing keys; by default the code without its last
+     * subtag, such as {@code fr} for {@code fr-CA}.
+     */
+    @Pattern(regexp = "^[a-z]{2,3}(?:-[A-Z]{2,3}(?:-[a-zA-Z]{4})?)?$",
+            message = "Invalid fallback language code format. Use ISO format (e.g., 'en', 'en-US')")
+    private String fallback;
 }
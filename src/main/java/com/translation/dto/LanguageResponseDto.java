@@ -0,0 +1,36 @@
+package com.translation.dto;
+
+import com.translation.cache.LanguageRegistry;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class LanguageResponseDto {
+    private String code;
+    private String name;
+    /**
+     * Code of the language that missing keys fall back to first, if any.
+     */
+    private String fallback;
+    /**
+     * Codes of all languages that missing keys are looked up in, in order.
+     */
+    private List<String> fallbacks;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static LanguageResponseDto from(LanguageRegistry.Entry entry) {
+        return LanguageResponseDto.builder()
+                .code(entry.code())
+                .name(entry.name())
+                .fallback(entry.parentCode())
+                .fallbacks(entry.fallbacks())
+                .createdAt(entry.createdAt())
+                .updatedAt(entry.updatedAt())
+                .build();
+    }
+}
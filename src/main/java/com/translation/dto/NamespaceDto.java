@@ -0,0 +1,22 @@
+package com.translation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * A namespace of a language with the number of keys below it and its immediate
+ * children. A child can be a key, a namespace of further keys, or both.
+ */
+@Data
+@Builder
+public class NamespaceDto {
+    private String languageCode;
+    private String prefix;
+    private long keyCount;
+    private List<Child> children;
+
+    public record Child(String name, long keyCount, boolean key) {
+    }
+}
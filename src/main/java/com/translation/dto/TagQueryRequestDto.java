@@ -0,0 +1,37 @@
+package com.translation.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.Set;
+
+@Data
+public class TagQueryRequestDto {
+
+    /**
+     * Boolean tag expression, for example {@code mobile AND NOT (desktop OR legacy)};
+     * blank matches every translation.
+     */
+    private String expression;
+
+    /**
+     * Languages to search; empty for all of them.
+     */
+    private Set<String> languageCodes;
+
+    @NotNull(message = "Page number is required")
+    @Min(value = 0, message = "Page number cannot be negative")
+    private Integer page = 0;
+
+    @NotNull(message = "Page size is required")
+    @Min(value = 1, message = "Page size must be greater than 0")
+    @Max(value = 1000, message = "Page size must not exceed 1000")
+    private Integer size = 20;
+
+    /**
+     * Whether to count the matches per tag.
+     */
+    private boolean facets = true;
+}
@@ -0,0 +1,21 @@
+package com.translation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of translations matching a tag expression. {@code facets} counts all matches,
+ * not only this page, per tag, most frequent first.
+ */
+@Data
+@Builder
+public class TagQueryResultDto {
+    private List<TranslationResponseDto> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private Map<String, Long> facets;
+}
@@ -0,0 +1,18 @@
+package com.translation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a cursor search. {@code nextCursor} is {@code null} on the last page and
+ * {@code totalElements} is only set when the request asked for it.
+ */
+@Data
+@Builder
+public class TranslationCursorPageDto {
+    private List<TranslationResponseDto> content;
+    private String nextCursor;
+    private Long totalElements;
+}
@@ -0,0 +1,23 @@
+package com.translation.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes of a language between two revisions. When {@code full} is set the requested
+ * revision was no longer available and {@code updated} holds every translation, so the
+ * client must replace its local copy instead of patching it.
+ */
+@Data
+@Builder
+public class TranslationDeltaDto {
+    private String languageCode;
+    private long fromRevision;
+    private long revision;
+    private boolean full;
+    private Map<String, String> updated;
+    private Set<String> removed;
+}
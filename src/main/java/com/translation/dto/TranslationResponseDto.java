@@ -0,0 +1,48 @@
+package com.translation.dto;
+
+import com.translation.model.Tag;
+import com.translation.model.Translation;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * API view of a translation. The language is reduced to its code and the tags to their
+ * names, so serializing it never walks back into the entity graph.
+ */
+@Data
+@Builder
+public class TranslationResponseDto {
+    private Long id;
+    private String key;
+    private String content;
+    private String languageCode;
+    private List<String> tags;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Expects the language and tags to be loaded already, as every query feeding a response does.
+     */
+    public static TranslationResponseDto from(Translation translation) {
+        return from(translation, translation.getLanguage().getCode());
+    }
+
+    /**
+     * For translations whose language was not loaded, such as ones just created against
+     * a language reference.
+     */
+    public static TranslationResponseDto from(Translation translation, String languageCode) {
+        return TranslationResponseDto.builder()
+                .id(translation.getId())
+                .key(translation.getTranslationKey())
+                .content(translation.getContent())
+                .languageCode(languageCode)
+                .tags(translation.getTags().stream().map(Tag::getName).sorted().toList())
+                .createdAt(translation.getCreatedAt())
+                .updatedAt(translation.getUpdatedAt())
+                .build();
+    }
+}
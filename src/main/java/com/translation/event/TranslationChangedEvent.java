@@ -0,0 +1,47 @@
+package com.translation.event;
+
+import java.util.Map;
+
+/**
+ * Published whenever translations of a language are created, updated or deleted.
+ * Local events are published inside the writing transaction; listeners that need the
+ * committed state should use {@code @TransactionalEventListener}.
+ *
+ * @param languageCode language the changed keys belong to
+ * @param changes      changed translation keys and what happened to them
+ * @param baseRevision language revision the changes were made on
+ * @param revision     language revision after the changes; equal to {@code baseRevision}
+ *                     if they were not logged, such as tag-only updates
+ */
+public record TranslationChangedEvent(String languageCode, Map<String, ChangeType> changes,
+                                      long baseRevision, long revision) {
+
+    public enum ChangeType { UPSERTED, DELETED }
+
+    private static final long NOT_LOGGED = -1;
+
+    /**
+     * @param revision revision the upsert was logged under
+     */
+    public static TranslationChangedEvent upserted(String languageCode, String key, long revision) {
+        return new TranslationChangedEvent(languageCode, Map.of(key, ChangeType.UPSERTED), revision - 1, revision);
+    }
+
+    /**
+     * For upserts that did not change the content and were therefore not logged.
+     */
+    public static TranslationChangedEvent upserted(String languageCode, String key) {
+        return new TranslationChangedEvent(languageCode, Map.of(key, ChangeType.UPSERTED), NOT_LOGGED, NOT_LOGGED);
+    }
+
+    /**
+     * @param revision revision the deletion was logged under
+     */
+    public static TranslationChangedEvent deleted(String languageCode, String key, long revision) {
+        return new TranslationChangedEvent(languageCode, Map.of(key, ChangeType.DELETED), revision - 1, revision);
+    }
+
+    public boolean logged() {
+        return revision > baseRevision;
+    }
+}
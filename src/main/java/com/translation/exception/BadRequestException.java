@@ -0,0 +1,17 @@
+package com.translation.exception;
+
+/**
+ * Invalid input from the client, such as a malformed tag expression or search cursor,
+ * answered with {@code 400 Bad Request}. Other {@link IllegalArgumentException}s are bugs
+ * and are not exposed as client errors.
+ */
+public class BadRequestException extends IllegalArgumentException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
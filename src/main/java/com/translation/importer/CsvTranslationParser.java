@@ -0,0 +1,108 @@
+package com.translation.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads UTF-8 CSV as described in RFC 4180: comma separated, fields optionally quoted
+ * with {@code "}, quotes doubled inside quoted fields, which may span lines. The first
+ * record is a header naming the {@code key} and {@code content} columns; other columns
+ * are ignored.
+ */
+public class CsvTranslationParser implements TranslationFileParser {
+
+    @Override
+    public void parse(InputStream in, BiConsumer<String, String> consumer) throws IOException {
+        RecordReader reader = new RecordReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            return;
+        }
+        // Byte order mark written by spreadsheet applications
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+        int keyColumn = column(header, "key");
+        int contentColumn = column(header, "content");
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            if (record.size() <= Math.max(keyColumn, contentColumn)) {
+                throw new IOException("Missing columns in record ending on line " + reader.line);
+            }
+            consumer.accept(record.get(keyColumn), record.get(contentColumn));
+        }
+    }
+
+    private static int column(List<String> header, String name) throws IOException {
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).trim().toLowerCase(Locale.ROOT).equals(name)) {
+                return i;
+            }
+        }
+        throw new IOException("The CSV header has no '" + name + "' column");
+    }
+
+    private static final class RecordReader {
+
+        private final Reader in;
+        private int line;
+
+        RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        /**
+         * @return the fields of the next record, or {@code null} at the end of the input
+         */
+        List<String> next() throws IOException {
+            int c = in.read();
+            if (c == -1) {
+                return null;
+            }
+            line++;
+            int start = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field starting on line " + start);
+                    }
+                    if (c == '"') {
+                        c = in.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+        }
+    }
+}
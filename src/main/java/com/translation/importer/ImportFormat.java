@@ -0,0 +1,51 @@
+package com.translation.importer;
+
+import com.translation.exception.BadRequestException;
+
+import java.util.Locale;
+import java.util.Optional;
+
+public enum ImportFormat {
+    JSON(new JsonTranslationParser(), ".json"),
+    CSV(new CsvTranslationParser(), ".csv"),
+    XLIFF(new XliffTranslationParser(), ".xlf", ".xliff"),
+    PO(new PoTranslationParser(), ".po");
+
+    private final TranslationFileParser parser;
+    private final String[] extensions;
+
+    ImportFormat(TranslationFileParser parser, String... extensions) {
+        this.parser = parser;
+        this.extensions = extensions;
+    }
+
+    public TranslationFileParser parser() {
+        return parser;
+    }
+
+    /**
+     * @throws BadRequestException if the name is not a known format
+     */
+    public static ImportFormat of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown import format: " + name);
+        }
+    }
+
+    public static Optional<ImportFormat> fromFileName(String fileName) {
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toLowerCase(Locale.ROOT);
+        for (ImportFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (name.endsWith(extension)) {
+                    return Optional.of(format);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.translation.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the nested JSON produced by the export, such as {@code {"common": {"save": "Save"}}},
+ * as dot-separated keys like {@code common.save}.
+ */
+public class JsonTranslationParser implements TranslationFileParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public void parse(InputStream in, BiConsumer<String, String> consumer) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            StringBuilder path = new StringBuilder();
+            // Length of the path outside each open object
+            Deque<Integer> parents = new ArrayDeque<>();
+            int depth = 1;
+            while (depth > 0) {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of input");
+                }
+                if (token == JsonToken.END_OBJECT) {
+                    if (--depth > 0) {
+                        path.setLength(parents.pop());
+                    }
+                    continue;
+                }
+                String key = path.isEmpty() ? parser.getCurrentName() : path + "." + parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.START_OBJECT) {
+                    parents.push(path.length());
+                    path.setLength(0);
+                    path.append(key);
+                    depth++;
+                } else if (value == JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Arrays are not supported, found one at " + key);
+                } else if (value != JsonToken.VALUE_NULL) {
+                    consumer.accept(key, parser.getText());
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after the JSON object");
+            }
+        }
+    }
+}
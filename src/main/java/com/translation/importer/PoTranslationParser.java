@@ -0,0 +1,129 @@
+package com.translation.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads UTF-8 gettext PO files. The key is the {@code msgctxt} of an entry if present,
+ * as written by tools that keep the source text in {@code msgid}, and the {@code msgid}
+ * otherwise. The content is {@code msgstr}, or {@code msgstr[0]} for plural entries.
+ * The header, fuzzy, obsolete and untranslated entries are skipped.
+ */
+public class PoTranslationParser implements TranslationFileParser {
+
+    @Override
+    public void parse(InputStream in, BiConsumer<String, String> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Entry entry = new Entry();
+        StringBuilder current = null;
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+            number++;
+            line = line.strip();
+            if (number == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            if (line.isEmpty()) {
+                entry.emit(consumer);
+                entry = new Entry();
+                current = null;
+            } else if (line.startsWith("#")) {
+                if (entry.msgstr != null) {
+                    // Comments of the next entry without a blank line in between
+                    entry.emit(consumer);
+                    entry = new Entry();
+                    current = null;
+                }
+                // Obsolete entries (#~) are comments as well
+                if (line.startsWith("#,") && line.contains("fuzzy")) {
+                    entry.fuzzy = true;
+                }
+            } else if (line.startsWith("\"")) {
+                if (current == null) {
+                    throw new IOException("Line " + number + ": string without a keyword");
+                }
+                current.append(unquote(line, number));
+            } else {
+                int space = line.indexOf(' ');
+                if (space < 0) {
+                    throw new IOException("Line " + number + ": expected a keyword and a string");
+                }
+                String keyword = line.substring(0, space);
+                if ((keyword.equals("msgctxt") || keyword.equals("msgid")) && entry.msgstr != null) {
+                    // Next entry without a blank line in between
+                    entry.emit(consumer);
+                    entry = new Entry();
+                }
+                current = entry.field(keyword, number);
+                current.append(unquote(line.substring(space + 1).strip(), number));
+            }
+        }
+        entry.emit(consumer);
+    }
+
+    private static String unquote(String value, int number) throws IOException {
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            throw new IOException("Line " + number + ": expected a quoted string");
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 1; i < value.length() - 1; i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i == value.length() - 2) {
+                result.append(c);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            switch (escaped) {
+                case 'n' -> result.append('\n');
+                case 't' -> result.append('\t');
+                case 'r' -> result.append('\r');
+                default -> result.append(escaped);
+            }
+        }
+        return result.toString();
+    }
+
+    private static final class Entry {
+
+        private StringBuilder msgctxt;
+        private StringBuilder msgid;
+        private StringBuilder msgstr;
+        private boolean fuzzy;
+
+        StringBuilder field(String keyword, int number) throws IOException {
+            switch (keyword) {
+                case "msgctxt" -> {
+                    return msgctxt = new StringBuilder();
+                }
+                case "msgid" -> {
+                    return msgid = new StringBuilder();
+                }
+                case "msgstr", "msgstr[0]" -> {
+                    return msgstr = new StringBuilder();
+                }
+                default -> {
+                    if (keyword.equals("msgid_plural") || keyword.startsWith("msgstr[")) {
+                        // Only the first plural form is imported
+                        return new StringBuilder();
+                    }
+                    throw new IOException("Line " + number + ": unknown keyword " + keyword);
+                }
+            }
+        }
+
+        void emit(BiConsumer<String, String> consumer) {
+            if (msgid == null || msgstr == null || fuzzy || msgstr.isEmpty()) {
+                return;
+            }
+            String key = msgctxt != null ? msgctxt.toString() : msgid.toString();
+            if (!key.isEmpty()) {
+                consumer.accept(key, msgstr.toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.translation.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads a translation file one entry at a time, so files of any size can be imported
+ * without holding them in memory.
+ */
+public interface TranslationFileParser {
+
+    /**
+     * Passes every key and content pair of the file to {@code consumer}, in file order.
+     *
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    void parse(InputStream in, BiConsumer<String, String> consumer) throws IOException;
+}
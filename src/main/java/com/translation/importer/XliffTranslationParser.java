@@ -0,0 +1,96 @@
+package com.translation.importer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads the targets of XLIFF 1.2 {@code trans-unit} and XLIFF 2.x {@code unit} elements.
+ * The key is the {@code resname} or {@code name} attribute if present, the {@code id}
+ * otherwise. Inline markup inside a target is reduced to its text, the segments of a
+ * unit are joined, and units without a target are skipped as untranslated.
+ */
+public class XliffTranslationParser implements TranslationFileParser {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        // Vendor files are untrusted: no DTDs, no external entities
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    @Override
+    public void parse(InputStream in, BiConsumer<String, String> consumer) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            String key = null;
+            StringBuilder content = null;
+            boolean inTarget = false;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (name.equals("trans-unit") || name.equals("unit")) {
+                            key = key(reader);
+                            content = null;
+                        } else if (name.equals("target") && key != null) {
+                            inTarget = true;
+                            if (content == null) {
+                                content = new StringBuilder();
+                            }
+                        }
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+                        if (inTarget) {
+                            content.append(reader.getText());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (name.equals("target")) {
+                            inTarget = false;
+                        } else if ((name.equals("trans-unit") || name.equals("unit")) && key != null) {
+                            if (content != null) {
+                                consumer.accept(key, content.toString());
+                            }
+                            key = null;
+                            content = null;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed XLIFF: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Nothing left to read
+                }
+            }
+        }
+    }
+
+    private static String key(XMLStreamReader reader) throws XMLStreamException {
+        String key = reader.getAttributeValue(null, "resname");
+        if (key == null) {
+            key = reader.getAttributeValue(null, "name");
+        }
+        if (key == null) {
+            key = reader.getAttributeValue(null, "id");
+        }
+        if (key == null) {
+            throw new XMLStreamException("Unit without an id", reader.getLocation());
+        }
+        return key;
+    }
+}
@@ -3,6 +3,7 @@ package com.translation.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,7 +17,8 @@ import java.util.Set;
 @EqualsAndHashCode(of = {"code"})
 public class Language {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "languages_seq")
+    @SequenceGenerator(name = "languages_seq", sequenceName = "languages_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 10)
@@ -25,9 +27,22 @@ public class Language {
     @Column(nullable = false)
     private String name;
 
+    // Overrides the fallback derived from the code, such as es for ca
+    @Column(name = "fallback_code", length = 10)
+    private String fallbackCode;
+
     @OneToMany(mappedBy = "language", cascade = CascadeType.ALL)
     private Set<Translation> translations = new HashSet<>();
 
+    // Maintained with set-based updates only, so a stale entity can never roll it back
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long revision;
+
+    @ColumnDefault("0")
+    @Column(name = "compacted_revision", nullable = false, insertable = false, updatable = false)
+    private long compactedRevision;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -15,7 +15,8 @@ import java.util.Set;
 @EqualsAndHashCode(of = {"name"})
 public class Tag {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+    @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -16,11 +16,16 @@ import java.util.Set;
     indexes = {
         @Index(name = "idx_translation_key", columnList = "translation_key"),
         @Index(name = "idx_language", columnList = "language_id")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_translation_key_language", columnNames = {"translation_key", "language_id"})
     })
 @EqualsAndHashCode(of = {"translationKey", "language"})
 public class Translation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Unlike IDENTITY, pooled sequence ids leave JDBC batching enabled
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translations_seq")
+    @SequenceGenerator(name = "translations_seq", sequenceName = "translations_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "translation_key", nullable = false)
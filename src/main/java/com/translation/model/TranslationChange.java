@@ -0,0 +1,47 @@
+package com.translation.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entry of the per-language change log used for delta exports. Deleted keys are kept as
+ * tombstones with a null content until the log is compacted.
+ */
+@Data
+@Entity
+@Table(name = "translation_changes",
+    indexes = {
+        @Index(name = "idx_change_language_revision", columnList = "language_id, revision")
+    })
+public class TranslationChange {
+
+    public enum Type { UPSERT, DELETE }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translation_changes_seq")
+    @SequenceGenerator(name = "translation_changes_seq", sequenceName = "translation_changes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "language_id", nullable = false)
+    private Long languageId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "translation_key", nullable = false)
+    private String translationKey;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private Type type;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+}
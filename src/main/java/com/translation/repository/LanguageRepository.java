@@ -2,12 +2,83 @@ package com.translation.repository;
 
 import com.translation.model.Language;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LanguageRepository extends JpaRepository<Language, Long> {
     Optional<Language> findByCode(String code);
     boolean existsByCode(String code);
+    List<Language> findByCodeIn(Collection<String> codes);
+
+    @Query("SELECT l.code FROM Language l ORDER BY l.code")
+    List<String> findAllCodes();
+
+    @Query("SELECT l.id AS id, l.code AS code, l.name AS name, l.fallbackCode AS fallbackCode, " +
+           "l.createdAt AS createdAt, l.updatedAt AS updatedAt FROM Language l ORDER BY l.code")
+    List<LanguageSummary> findAllSummaries();
+
+    @Query("SELECT l.revision FROM Language l WHERE l.code = :code")
+    Optional<Long> findRevisionByCode(@Param("code") String code);
+
+    @Query("SELECT l.id AS id, l.code AS code, l.revision AS revision, l.compactedRevision AS compactedRevision " +
+           "FROM Language l WHERE l.code = :code")
+    Optional<LanguageRevision> findRevisionInfoByCode(@Param("code") String code);
+
+    @Query("SELECT l.id AS id, l.code AS code, l.revision AS revision, l.compactedRevision AS compactedRevision " +
+           "FROM Language l")
+    List<LanguageRevision> findAllRevisionInfo();
+
+    @Query("SELECT l.revision FROM Language l WHERE l.id = :id")
+    long findRevisionById(@Param("id") Long id);
+
+    /**
+     * Deletes the row without loading the entity, which would cascade into its translations.
+     */
+    @Modifying
+    @Query("DELETE FROM Language l WHERE l.id = :id")
+    int deleteLanguageById(@Param("id") Long id);
+
+    /**
+     * Points the languages falling back to a renamed language at its new code. Clears the
+     * persistence context so languages loaded before do not keep the old fallback.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Language l SET l.fallbackCode = :newCode WHERE l.fallbackCode = :oldCode")
+    int renameFallbackCode(@Param("oldCode") String oldCode, @Param("newCode") String newCode);
+
+    @Modifying
+    @Query("UPDATE Language l SET l.revision = l.revision + 1 WHERE l.id = :id")
+    void incrementRevision(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Language l SET l.revision = l.revision + :count WHERE l.id = :id")
+    void advanceRevision(@Param("id") Long id, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE Language l SET l.compactedRevision = :revision WHERE l.id = :id AND l.compactedRevision < :revision")
+    void updateCompactedRevision(@Param("id") Long id, @Param("revision") long revision);
+
+    interface LanguageSummary {
+        Long getId();
+        String getCode();
+        String getName();
+        String getFallbackCode();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    interface LanguageRevision {
+        Long getId();
+        String getCode();
+        long getRevision();
+        long getCompactedRevision();
+    }
 }
@@ -0,0 +1,343 @@
+package com.translation.repository;
+
+import com.translation.config.DatabasePlatform;
+import com.translation.model.TranslationChange;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Batched JDBC writes for bulk imports. Rows are upserted with
+ * {@code INSERT ... ON CONFLICT} on PostgreSQL and {@code MERGE} elsewhere, so a key
+ * created concurrently by another writer is updated instead of failing the batch.
+ * Seeding of empty languages skips the conflict handling and streams rows through
+ * {@code COPY} on PostgreSQL.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationBulkRepository {
+
+    /**
+     * Increment of the entity id sequences. Hibernate's pooled optimizer treats every
+     * value drawn from a sequence as the end of a block of this many ids.
+     */
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Value("${translation.bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * @param id      id used if the row is inserted; ignored when the key already exists
+     * @param content new content of the translation
+     */
+    public record Row(long id, String key, String content) {
+    }
+
+    public record TagLink(String key, String tagName) {
+    }
+
+    public record TagLinkIds(long translationId, long tagId) {
+    }
+
+    /**
+     * Reserves ids from a sequence in blocks, in the same way Hibernate does, so that
+     * ids handed out here never collide with ids assigned by the persistence context.
+     */
+    public long[] reserveIds(String sequence, int count) {
+        String sql = databasePlatform.isPostgres()
+                ? "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)"
+                : "SELECT NEXT VALUE FOR " + sequence + " FROM SYSTEM_RANGE(1, ?)";
+        long[] ids = new long[count];
+        int reserved = 0;
+        while (reserved < count) {
+            int blocks = (count - reserved + SEQUENCE_INCREMENT - 1) / SEQUENCE_INCREMENT;
+            for (long end : jdbcTemplate.queryForList(sql, Long.class, blocks)) {
+                // The first value of a fresh sequence covers a single id
+                for (long id = Math.max(1, end - SEQUENCE_INCREMENT + 1); id <= end && reserved < count; id++) {
+                    ids[reserved++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Creates the tags that do not exist yet. Tags created concurrently are left alone.
+     */
+    public void createMissingTags(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<String> missing = new ArrayList<>(names);
+        missing.removeAll(findTagNames(names));
+        if (missing.isEmpty()) {
+            return;
+        }
+        String sql = databasePlatform.isPostgres()
+                ? "INSERT INTO tags (id, name, created_at) VALUES (?, ?, ?) ON CONFLICT (name) DO NOTHING"
+                : "MERGE INTO tags t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), " +
+                  "CAST(? AS TIMESTAMP))) AS s(id, name, created_at) ON t.name = s.name " +
+                  "WHEN NOT MATCHED THEN INSERT (id, name, created_at) VALUES (s.id, s.name, s.created_at)";
+        long[] ids = reserveIds("tags_seq", missing.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(missing.size());
+        for (int i = 0; i < missing.size(); i++) {
+            arguments.add(new Object[]{ids[i], missing.get(i), now});
+        }
+        batchUpdate(sql, arguments);
+    }
+
+    public void upsertTranslations(long languageId, List<Row> rows) {
+        String sql = databasePlatform.isPostgres()
+                ? "INSERT INTO translations (id, translation_key, content, language_id, created_at, updated_at) " +
+                  "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (translation_key, language_id) " +
+                  "DO UPDATE SET content = EXCLUDED.content, updated_at = EXCLUDED.updated_at"
+                : "MERGE INTO translations t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), " +
+                  "CAST(? AS CLOB), CAST(? AS BIGINT), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))) " +
+                  "AS s(id, translation_key, content, language_id, created_at, updated_at) " +
+                  "ON t.translation_key = s.translation_key AND t.language_id = s.language_id " +
+                  "WHEN MATCHED THEN UPDATE SET content = s.content, updated_at = s.updated_at " +
+                  "WHEN NOT MATCHED THEN INSERT (id, translation_key, content, language_id, created_at, updated_at) " +
+                  "VALUES (s.id, s.translation_key, s.content, s.language_id, s.created_at, s.updated_at)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, rows, batchSize, (statement, row) -> {
+            statement.setLong(1, row.id());
+            statement.setString(2, row.key());
+            statement.setString(3, row.content());
+            statement.setLong(4, languageId);
+            statement.setTimestamp(5, now);
+            statement.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * Links translations to tags by key and tag name, skipping links that already exist.
+     * Looking the ids up in the statement keeps links correct for keys that another writer
+     * inserted first.
+     */
+    public void addTagLinks(long languageId, List<TagLink> links) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO translation_tags (translation_id, tag_id) " +
+                "SELECT t.id, g.id FROM translations t, tags g " +
+                "WHERE t.language_id = ? AND t.translation_key = ? AND g.name = ? " +
+                "AND NOT EXISTS (SELECT 1 FROM translation_tags x WHERE x.translation_id = t.id AND x.tag_id = g.id)",
+                links, batchSize, (statement, link) -> {
+                    statement.setLong(1, languageId);
+                    statement.setString(2, link.key());
+                    statement.setString(3, link.tagName());
+                });
+    }
+
+    public void removeTagLinks(long languageId, List<TagLink> links) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM translation_tags WHERE " +
+                "translation_id = (SELECT t.id FROM translations t WHERE t.language_id = ? AND t.translation_key = ?) " +
+                "AND tag_id = (SELECT g.id FROM tags g WHERE g.name = ?)",
+                links, batchSize, (statement, link) -> {
+                    statement.setLong(1, languageId);
+                    statement.setString(2, link.key());
+                    statement.setString(3, link.tagName());
+                });
+    }
+
+    /**
+     * Appends upserts to the change log of a language under consecutive revisions.
+     *
+     * @param firstRevision revision of the first entry of {@code contents}
+     */
+    public void insertChanges(long languageId, long firstRevision, Map<String, String> contents) {
+        List<Map.Entry<String, String>> changes = new ArrayList<>(contents.entrySet());
+        long[] ids = reserveIds("translation_changes_seq", changes.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            arguments.add(new Object[]{ids[i], languageId, firstRevision + i, changes.get(i).getKey(),
+                    changes.get(i).getValue(), TranslationChange.Type.UPSERT.name(), now});
+        }
+        batchUpdate("INSERT INTO translation_changes " +
+                    "(id, language_id, revision, translation_key, content, change_type, changed_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)", arguments);
+    }
+
+    public boolean hasTranslations(long languageId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM translations WHERE language_id = ?)", Boolean.class, languageId));
+    }
+
+    /**
+     * Copies every translation of a language, with its tags, into another language using
+     * one {@code INSERT ... SELECT} per table, so no row passes through the application.
+     * Ids are reserved up front and matched to the source rows by key order; rows
+     * committed to the source after the count are not copied.
+     *
+     * @return number of translations copied
+     */
+    public long copyTranslations(long sourceLanguageId, long targetLanguageId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM translations WHERE language_id = ?", Long.class, sourceLanguageId);
+        if (count == null || count == 0) {
+            return 0;
+        }
+        long[] ids = reserveIds("translations_seq", Math.toIntExact(count));
+        Long[] boxedIds = new Long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            boxedIds[i] = ids[i];
+        }
+        String idArray = databasePlatform.isPostgres() ? "CAST(? AS BIGINT[])" : "CAST(? AS BIGINT ARRAY)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int copied = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO translations (id, translation_key, content, language_id, created_at, updated_at) " +
+                    "SELECT i.id, s.translation_key, s.content, ?, ?, ? FROM " +
+                    "(SELECT translation_key, content, ROW_NUMBER() OVER (ORDER BY translation_key) AS n " +
+                    "FROM translations WHERE language_id = ?) s " +
+                    "JOIN UNNEST(" + idArray + ") WITH ORDINALITY AS i(id, n) ON i.n = s.n");
+            statement.setLong(1, targetLanguageId);
+            statement.setTimestamp(2, now);
+            statement.setTimestamp(3, now);
+            statement.setLong(4, sourceLanguageId);
+            statement.setArray(5, connection.createArrayOf("bigint", boxedIds));
+            return statement;
+        });
+        jdbcTemplate.update(
+                "INSERT INTO translation_tags (translation_id, tag_id) " +
+                "SELECT t.id, l.tag_id FROM translation_tags l " +
+                "JOIN translations s ON s.id = l.translation_id " +
+                "JOIN translations t ON t.translation_key = s.translation_key AND t.language_id = ? " +
+                "WHERE s.language_id = ?", targetLanguageId, sourceLanguageId);
+        return copied;
+    }
+
+    public Map<String, Long> findTagIds(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        List<String> distinct = new ArrayList<>(new HashSet<>(names));
+        jdbcTemplate.query("SELECT id, name FROM tags WHERE name IN (" +
+                           String.join(",", Collections.nCopies(distinct.size(), "?")) + ")",
+                rs -> {
+                    ids.put(rs.getString("name"), rs.getLong("id"));
+                }, distinct.toArray());
+        return ids;
+    }
+
+    /**
+     * Inserts translations without looking for existing keys, for seeding languages that
+     * have none yet. A key that already exists fails the whole load.
+     *
+     * @return number of rows inserted
+     */
+    public long insertTranslations(long languageId, Stream<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insertRows("translations", "id, translation_key, content, language_id, created_at, updated_at",
+                rows.map(row -> new Object[]{row.id(), row.key(), row.content(), languageId, now, now}).iterator());
+    }
+
+    /**
+     * @return number of links inserted
+     */
+    public long insertTagLinks(Stream<TagLinkIds> links) {
+        return insertRows("translation_tags", "translation_id, tag_id",
+                links.map(link -> new Object[]{link.translationId(), link.tagId()}).iterator());
+    }
+
+    /**
+     * Streams rows into a table through {@code COPY} on PostgreSQL, which avoids the per
+     * statement overhead of batched inserts, and falls back to JDBC batches elsewhere.
+     */
+    private long insertRows(String table, String columns, Iterator<Object[]> rows) {
+        if (!databasePlatform.isPostgres()) {
+            String sql = "INSERT INTO " + table + " (" + columns + ") VALUES (" +
+                         String.join(", ", Collections.nCopies(columns.split(",").length, "?")) + ")";
+            long count = 0;
+            List<Object[]> chunk = new ArrayList<>(batchSize);
+            while (rows.hasNext()) {
+                chunk.add(rows.next());
+                if (chunk.size() == batchSize || !rows.hasNext()) {
+                    jdbcTemplate.batchUpdate(sql, chunk);
+                    count += chunk.size();
+                    chunk.clear();
+                }
+            }
+            return count;
+        }
+        Long count = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            String sql = "COPY " + table + " (" + columns + ") FROM STDIN (FORMAT csv)";
+            long copied = 0;
+            // Closing the stream ends the COPY, which is still part of the surrounding transaction
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(new PGCopyOutputStream(
+                    connection.unwrap(PGConnection.class), sql, COPY_BUFFER_SIZE), StandardCharsets.UTF_8))) {
+                StringBuilder line = new StringBuilder();
+                while (rows.hasNext()) {
+                    line.setLength(0);
+                    appendCsv(line, rows.next());
+                    writer.append(line);
+                    copied++;
+                }
+            } catch (IOException e) {
+                throw new SQLException("COPY into " + table + " failed", e);
+            }
+            return copied;
+        });
+        return count != null ? count : 0;
+    }
+
+    private static void appendCsv(StringBuilder line, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            if (values[i] instanceof String text) {
+                // Always quoted: an unquoted empty field would be read as NULL
+                line.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(values[i]);
+            }
+        }
+        line.append('\n');
+    }
+
+    private void batchUpdate(String sql, List<Object[]> arguments) {
+        for (int from = 0; from < arguments.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, arguments.subList(from, Math.min(from + batchSize, arguments.size())));
+        }
+    }
+
+    private Set<String> findTagNames(Collection<String> names) {
+        List<String> distinct = new ArrayList<>(new HashSet<>(names));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT name FROM tags WHERE name IN (" +
+                String.join(",", Collections.nCopies(distinct.size(), "?")) + ")",
+                String.class, distinct.toArray()));
+    }
+}
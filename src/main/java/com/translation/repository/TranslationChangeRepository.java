@@ -0,0 +1,36 @@
+package com.translation.repository;
+
+import com.translation.model.TranslationChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TranslationChangeRepository extends JpaRepository<TranslationChange, Long> {
+
+    @Query("SELECT c FROM TranslationChange c " +
+           "WHERE c.languageId = :languageId AND c.revision > :fromRevision AND c.revision <= :toRevision " +
+           "ORDER BY c.revision")
+    List<TranslationChange> findChanges(
+        @Param("languageId") Long languageId,
+        @Param("fromRevision") long fromRevision,
+        @Param("toRevision") long toRevision
+    );
+
+    @Query("SELECT MAX(c.revision) FROM TranslationChange c WHERE c.languageId = :languageId AND c.changedAt < :cutoff")
+    Optional<Long> findLastRevisionBefore(@Param("languageId") Long languageId, @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM TranslationChange c WHERE c.languageId = :languageId AND c.revision <= :revision")
+    int deleteUpToRevision(@Param("languageId") Long languageId, @Param("revision") long revision);
+
+    @Modifying
+    @Query("DELETE FROM TranslationChange c WHERE c.languageId = :languageId")
+    int deleteByLanguageId(@Param("languageId") Long languageId);
+}
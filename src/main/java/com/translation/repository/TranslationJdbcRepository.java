@@ -0,0 +1,194 @@
+package com.translation.repository;
+
+import com.translation.config.DatabasePlatform;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access for read paths that must not hydrate JPA entities.
+ * Bulk writes live in {@link TranslationBulkRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TranslationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Value("${translation.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Streams key/content pairs of a language ordered by key through a forward-only cursor.
+     * Must run inside a transaction so that PostgreSQL honours the fetch size instead of
+     * buffering the whole result set.
+     */
+    public void streamContents(long languageId, BiConsumer<String, String> consumer) {
+        streamContents(languageId, "", consumer);
+    }
+
+    /**
+     * Like {@link #streamContents(long, BiConsumer)}, restricted to keys starting with the
+     * given prefix. On PostgreSQL the prefix match uses the {@code text_pattern_ops} index.
+     */
+    public void streamContents(long languageId, String keyPrefix, BiConsumer<String, String> consumer) {
+        String sql = "SELECT t.translation_key, t.content FROM translations t " +
+                     "WHERE t.language_id = ?" + (keyPrefix.isEmpty() ? "" : " AND t.translation_key LIKE ? ESCAPE '\\'") +
+                     " ORDER BY " + databasePlatform.binaryOrder("t.translation_key");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, languageId);
+            if (!keyPrefix.isEmpty()) {
+                statement.setString(2, escapeLike(keyPrefix) + "%");
+            }
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString(1), rs.getString(2));
+        });
+    }
+
+    /**
+     * Like {@link #streamContents(long, BiConsumer)} over several languages at once: every
+     * key appears once, with the content of the first of the given languages that has it.
+     */
+    public void streamMergedContents(List<Long> languageIds, BiConsumer<String, String> consumer) {
+        String idArray = databasePlatform.isPostgres() ? "CAST(? AS BIGINT[])" : "CAST(? AS BIGINT ARRAY)";
+        String sql = "SELECT m.translation_key, m.content FROM " +
+                     "(SELECT t.translation_key, t.content, " +
+                     "ROW_NUMBER() OVER (PARTITION BY t.translation_key ORDER BY l.n) AS r " +
+                     "FROM translations t JOIN UNNEST(" + idArray + ") WITH ORDINALITY AS l(id, n) " +
+                     "ON t.language_id = l.id) m " +
+                     "WHERE m.r = 1 ORDER BY " + databasePlatform.binaryOrder("m.translation_key");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setArray(1, connection.createArrayOf("bigint", languageIds.toArray(new Long[0])));
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString(1), rs.getString(2));
+        });
+    }
+
+    public long countKeys(long languageId) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM translations WHERE language_id = ?", Long.class, languageId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Streams the keys of a language in no particular order.
+     */
+    public void streamKeys(long languageId, Consumer<String> consumer) {
+        String sql = "SELECT translation_key FROM translations WHERE language_id = ?";
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, languageId);
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getString(1));
+        });
+    }
+
+    /**
+     * Streams the keys of a language that start with the given prefix.
+     */
+    public void streamKeys(long languageId, String keyPrefix, Consumer<String> consumer) {
+        jdbcTemplate.query(
+                "SELECT translation_key FROM translations WHERE language_id = ? AND translation_key LIKE ? ESCAPE '\\'",
+                rs -> {
+                    consumer.accept(rs.getString(1));
+                }, languageId, escapeLike(keyPrefix) + "%");
+    }
+
+    /**
+     * Streams the id, key and tag names of translations of a language, one call per
+     * translation.
+     *
+     * @param keys keys to read, or {@code null} for the whole language
+     */
+    public void streamTaggedKeys(long languageId, Collection<String> keys, Consumer<TaggedKey> consumer) {
+        streamTagged(languageId, keys, false, consumer);
+    }
+
+    /**
+     * Like {@link #streamTaggedKeys}, including the content of each translation.
+     */
+    public void streamTaggedContents(long languageId, Collection<String> keys, Consumer<TaggedKey> consumer) {
+        streamTagged(languageId, keys, true, consumer);
+    }
+
+    /**
+     * @param content translation content, or {@code null} unless it was requested
+     */
+    public record TaggedKey(long id, String key, String content, List<String> tags) {
+    }
+
+    private void streamTagged(long languageId, Collection<String> keys, boolean withContent,
+                              Consumer<TaggedKey> consumer) {
+        String sql = "SELECT t.id, t.translation_key, g.name" + (withContent ? ", t.content" : "") +
+                     " FROM translations t " +
+                     "LEFT JOIN translation_tags tt ON tt.translation_id = t.id " +
+                     "LEFT JOIN tags g ON g.id = tt.tag_id " +
+                     "WHERE t.language_id = ?" + (keys == null ? "" : " AND t.translation_key IN (" +
+                     String.join(",", Collections.nCopies(keys.size(), "?")) + ")") +
+                     " ORDER BY t.id";
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(languageId);
+        if (keys != null) {
+            if (keys.isEmpty()) {
+                return;
+            }
+            parameters.addAll(keys);
+        }
+        // Rows arrive grouped by translation; emit each one once its last tag has been read
+        TaggedKey[] current = new TaggedKey[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            return statement;
+        }, rs -> {
+            long id = rs.getLong(1);
+            if (current[0] == null || current[0].id() != id) {
+                if (current[0] != null) {
+                    consumer.accept(current[0]);
+                }
+                current[0] = new TaggedKey(id, rs.getString(2), withContent ? rs.getString(4) : null,
+                        new ArrayList<>());
+            }
+            String tag = rs.getString(3);
+            if (tag != null) {
+                current[0].tags().add(tag);
+            }
+        });
+        if (current[0] != null) {
+            consumer.accept(current[0]);
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
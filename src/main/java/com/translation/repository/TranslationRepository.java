@@ -8,36 +8,107 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
 public interface TranslationRepository extends JpaRepository<Translation, Long> {
     
-    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags WHERE t.language.code = :languageCode")
-    List<Translation> findAllByLanguageCode(@Param("languageCode") String languageCode);
+    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags WHERE t.language.id = :languageId")
+    List<Translation> findAllByLanguageId(@Param("languageId") Long languageId);
 
-    @Query("SELECT t FROM Translation t LEFT JOIN FETCH t.tags WHERE t.translationKey = :key AND t.language.code = :languageCode")
-    Optional<Translation> findByKeyAndLanguageCode(@Param("key") String key, @Param("languageCode") String languageCode);
+    boolean existsByLanguageId(Long languageId);
 
-    @Query("SELECT DISTINCT t FROM Translation t " +
-           "LEFT JOIN FETCH t.tags tags " +
-           "WHERE t.content LIKE %:searchTerm% " +
+    boolean existsByTranslationKeyAndLanguageId(String translationKey, Long languageId);
+
+    /**
+     * Languages are resolved to ids by the {@code LanguageRegistry}, so queries filter on the
+     * foreign key column. The language is still fetched where the entity leaves the
+     * persistence context, since responses and cache entries need its code.
+     */
+    @Query("SELECT t FROM Translation t JOIN FETCH t.language LEFT JOIN FETCH t.tags " +
+           "WHERE t.translationKey = :key AND t.language.id = :languageId")
+    Optional<Translation> findByKeyAndLanguageId(@Param("key") String key, @Param("languageId") Long languageId);
+
+    /**
+     * Search condition shared by the search queries. Tags are matched in a subquery so the
+     * queries can be paginated in the database without joining the collection.
+     */
+    String SEARCH_MATCH =
+           "(t.content LIKE %:searchTerm% " +
            "OR t.translationKey LIKE %:searchTerm% " +
-           "OR tags.name IN :tags")
-    Page<Translation> searchTranslations(
+           "OR EXISTS (SELECT g FROM Tag g JOIN g.translations tg WHERE tg = t AND g.name IN :tags))";
+
+    /**
+     * First phase of a search: the ids of one page. Load the translations with
+     * {@link #findAllWithTagsInOrder(List)}; fetch-joining tags here would make Hibernate
+     * paginate the whole result in memory.
+     */
+    @Query(value = "SELECT t.id FROM Translation t WHERE " + SEARCH_MATCH + " ORDER BY t.id",
+           countQuery = "SELECT COUNT(t) FROM Translation t WHERE " + SEARCH_MATCH)
+    Page<Long> searchTranslationIds(
         @Param("searchTerm") String searchTerm,
         @Param("tags") Set<String> tags,
         Pageable pageable
     );
 
-    @Query("SELECT t FROM Translation t " +
+    @Query("SELECT DISTINCT t FROM Translation t " +
+           "JOIN FETCH t.language " +
            "LEFT JOIN FETCH t.tags " +
-           "WHERE t.language.code = :languageCode " +
+           "WHERE t.language.id = :languageId " +
            "AND t.translationKey IN :keys")
-    List<Translation> findByKeysAndLanguageCode(
+    List<Translation> findByKeysAndLanguageId(
         @Param("keys") Set<String> keys,
-        @Param("languageCode") String languageCode
+        @Param("languageId") Long languageId
     );
+
+    @Query("SELECT DISTINCT t FROM Translation t " +
+           "JOIN FETCH t.language " +
+           "LEFT JOIN FETCH t.tags " +
+           "WHERE t.language.id IN :languageIds " +
+           "AND t.translationKey IN :keys")
+    List<Translation> findByKeysAndLanguageIds(
+        @Param("keys") Set<String> keys,
+        @Param("languageIds") Set<Long> languageIds
+    );
+
+    @Query("SELECT DISTINCT t FROM Translation t JOIN FETCH t.language LEFT JOIN FETCH t.tags WHERE t.id IN :ids")
+    List<Translation> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM Translation t WHERE " + SEARCH_MATCH + " " +
+           "AND (t.translationKey > :afterKey OR (t.translationKey = :afterKey AND t.id > :afterId)) " +
+           "ORDER BY t.translationKey, t.id")
+    List<Long> searchIdsAfter(
+        @Param("searchTerm") String searchTerm,
+        @Param("tags") Set<String> tags,
+        @Param("afterKey") String afterKey,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+
+    @Query("SELECT COUNT(t) FROM Translation t WHERE " + SEARCH_MATCH)
+    long countMatches(@Param("searchTerm") String searchTerm, @Param("tags") Set<String> tags);
+
+    /**
+     * Loads translations with their language and tags in one query, in the order of the
+     * given ids.
+     */
+    default List<Translation> findAllWithTagsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        List<Translation> translations = new ArrayList<>(findAllWithTagsByIdIn(ids));
+        translations.sort(Comparator.comparing(translation -> positions.get(translation.getId())));
+        return translations;
+    }
 }
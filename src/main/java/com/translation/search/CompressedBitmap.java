@@ -0,0 +1,538 @@
+package com.translation.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative int ids in the style of Roaring bitmaps.
+ * <p>
+ * Ids are grouped into chunks of 65536 by their upper 16 bits. A chunk with at most 4096
+ * ids is a sorted array of the lower 16 bits; a denser chunk is a fixed 8 KB bitmap.
+ * Set operations work chunk by chunk and pick the merge strategy by container type, so
+ * sparse tags stay small and dense tags are intersected a word at a time. Not thread
+ * safe; callers synchronize.
+ */
+public final class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public CompressedBitmap() {
+        this(new char[4], new Container[4], 0);
+    }
+
+    private CompressedBitmap(char[] keys, Container[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+    }
+
+    public static CompressedBitmap of(int... ids) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    public void add(int id) {
+        checkId(id);
+        char high = (char) (id >>> 16);
+        int index = Arrays.binarySearch(keys, 0, size, high);
+        if (index >= 0) {
+            containers[index] = containers[index].add((char) id);
+            return;
+        }
+        index = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = new ArrayContainer().add((char) id);
+        size++;
+    }
+
+    public void remove(int id) {
+        checkId(id);
+        int index = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) id);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Visits the ids in ascending order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} ids in ascending order, skipping the first
+     * {@code offset}. Whole chunks before the offset are skipped by their cardinality.
+     */
+    public int[] select(long offset, int limit) {
+        int[] result = new int[(int) Math.max(0, Math.min(limit, cardinality() - offset))];
+        int n = 0;
+        long skip = offset;
+        for (int i = 0; i < size && n < result.length; i++) {
+            int cardinality = containers[i].cardinality();
+            if (skip >= cardinality) {
+                skip -= cardinality;
+                continue;
+            }
+            long[] remaining = {skip};
+            int[] count = {n};
+            containers[i].forEach(keys[i] << 16, id -> {
+                if (remaining[0] > 0) {
+                    remaining[0]--;
+                } else if (count[0] < result.length) {
+                    result[count[0]++] = id;
+                }
+            });
+            n = count[0];
+            skip = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Rough heap footprint in bytes.
+     */
+    public long estimatedBytes() {
+        long bytes = 32 + keys.length * 2L + containers.length * 8L;
+        for (int i = 0; i < size; i++) {
+            bytes += containers[i] instanceof BitmapContainer ? 16 + WORDS * 8 : 24 + containers[i].cardinality() * 2L;
+        }
+        return bytes;
+    }
+
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap(new char[Math.max(1, Math.min(a.size, b.size))],
+                new Container[Math.max(1, Math.min(a.size, b.size))], 0);
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                result.append(a.keys[i], and(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap(new char[Math.max(1, a.size + b.size)],
+                new Container[Math.max(1, a.size + b.size)], 0);
+        int i = 0, j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.size || b.keys[j] < a.keys[i]) {
+                result.append(b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.append(a.keys[i], or(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ids of {@code a} that are not in {@code b}.
+     */
+    public static CompressedBitmap andNot(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap(new char[Math.max(1, a.size)], new Container[Math.max(1, a.size)], 0);
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            if (j < b.size && b.keys[j] == a.keys[i]) {
+                result.append(a.keys[i], andNot(a.containers[i], b.containers[j]));
+            } else {
+                result.append(a.keys[i], a.containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Size of the intersection without materializing it.
+     */
+    public static long andCardinality(CompressedBitmap a, CompressedBitmap b) {
+        long cardinality = 0;
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += andCardinality(a.containers[i], b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    private void append(char key, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+        keys[size] = key;
+        containers[size++] = container;
+    }
+
+    private static void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Ids must not be negative: " + id);
+        }
+    }
+
+    private static Container and(Container a, Container b) {
+        if (a instanceof ArrayContainer array) {
+            return array.filter(b, true);
+        }
+        if (b instanceof ArrayContainer array) {
+            return array.filter(a, true);
+        }
+        BitmapContainer x = (BitmapContainer) a, y = (BitmapContainer) b;
+        long[] words = new long[WORDS];
+        for (int k = 0; k < WORDS; k++) {
+            words[k] = x.words[k] & y.words[k];
+        }
+        return BitmapContainer.of(words);
+    }
+
+    private static Container or(Container a, Container b) {
+        if (a instanceof ArrayContainer x && b instanceof ArrayContainer y && x.size + y.size <= ARRAY_MAX) {
+            return x.union(y);
+        }
+        long[] words = a.toWords();
+        b.setBits(words);
+        return BitmapContainer.of(words);
+    }
+
+    private static Container andNot(Container a, Container b) {
+        if (a instanceof ArrayContainer array) {
+            return array.filter(b, false);
+        }
+        long[] words = a.toWords();
+        b.clearBits(words);
+        return BitmapContainer.of(words);
+    }
+
+    private static long andCardinality(Container a, Container b) {
+        if (a instanceof ArrayContainer array) {
+            return array.countIn(b);
+        }
+        if (b instanceof ArrayContainer array) {
+            return array.countIn(a);
+        }
+        BitmapContainer x = (BitmapContainer) a, y = (BitmapContainer) b;
+        long cardinality = 0;
+        for (int k = 0; k < WORDS; k++) {
+            cardinality += Long.bitCount(x.words[k] & y.words[k]);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Lower 16 bits of the ids within one chunk.
+     */
+    private interface Container {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        void forEach(int base, IntConsumer consumer);
+
+        Container copy();
+
+        long[] toWords();
+
+        void setBits(long[] words);
+
+        void clearBits(long[] words);
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_MAX) {
+                BitmapContainer bitmap = new BitmapContainer(toWords(), size);
+                return bitmap.add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        public Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(1, size)), size);
+        }
+
+        @Override
+        public long[] toWords() {
+            long[] words = new long[WORDS];
+            setBits(words);
+            return words;
+        }
+
+        @Override
+        public void setBits(long[] words) {
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        @Override
+        public void clearBits(long[] words) {
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] &= ~(1L << values[i]);
+            }
+        }
+
+        /**
+         * Values that are ({@code keep}) or are not in the other container.
+         */
+        ArrayContainer filter(Container other, boolean keep) {
+            char[] result = new char[Math.max(1, size)];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result[n++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        ArrayContainer union(ArrayContainer other) {
+            char[] result = new char[Math.max(1, size + other.size)];
+            int i = 0, j = 0, n = 0;
+            while (i < size || j < other.size) {
+                if (j == other.size || (i < size && values[i] < other.values[j])) {
+                    result[n++] = values[i++];
+                } else if (i == size || other.values[j] < values[i]) {
+                    result[n++] = other.values[j++];
+                } else {
+                    result[n++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        long countIn(Container other) {
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        /**
+         * Wraps the words, or converts them to an array container when sparse enough.
+         */
+        static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_MAX) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] values = new char[Math.max(1, cardinality)];
+            int n = 0;
+            for (int k = 0; k < WORDS; k++) {
+                long word = words[k];
+                while (word != 0) {
+                    values[n++] = (char) (k * 64 + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, n);
+        }
+
+        @Override
+        public Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) != 0) {
+                words[value >>> 6] &= ~bit;
+                if (--cardinality <= ARRAY_MAX) {
+                    return of(words);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public void forEach(int base, IntConsumer consumer) {
+            for (int k = 0; k < WORDS; k++) {
+                long word = words[k];
+                while (word != 0) {
+                    consumer.accept(base | (k * 64 + Long.numberOfTrailingZeros(word)));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        public Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        public long[] toWords() {
+            return words.clone();
+        }
+
+        @Override
+        public void setBits(long[] target) {
+            for (int k = 0; k < WORDS; k++) {
+                target[k] |= words[k];
+            }
+        }
+
+        @Override
+        public void clearBits(long[] target) {
+            for (int k = 0; k < WORDS; k++) {
+                target[k] &= ~words[k];
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.translation.search;
+
+import com.translation.cache.CachedTranslation;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.model.Translation;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationChangeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Answers searches from an in-process {@link NGramIndex} without touching the database.
+ * <p>
+ * The index is built on startup and rebuilt every {@code rebuild-interval}. Writes on this
+ * node are applied right after commit. Writes on other nodes are picked up every
+ * {@code sync-interval} by replaying the per-language change log from the revision the
+ * index was last synced to. Tag-only changes made on other nodes are not in the change
+ * log and show up after the next rebuild.
+ */
+@Slf4j
+public class InMemoryTranslationSearchBackend implements TranslationSearchBackend, SmartInitializingSingleton {
+
+    private static final int KEY_BATCH_SIZE = 500;
+
+    private static final String SELECT_TRANSLATIONS =
+            "SELECT t.id, t.translation_key, t.content, t.language_id, l.code, t.created_at, t.updated_at " +
+            "FROM translations t JOIN languages l ON l.id = t.language_id";
+
+    private static final String SELECT_TAGS =
+            "SELECT tt.translation_id, g.name FROM translation_tags tt JOIN tags g ON g.id = tt.tag_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LanguageRepository languageRepository;
+    private final TranslationChangeRepository translationChangeRepository;
+
+    private volatile NGramIndex index = new NGramIndex();
+    private final Map<String, IndexedLanguage> indexedRevisions = new ConcurrentHashMap<>();
+    private final Object syncLock = new Object();
+
+    public InMemoryTranslationSearchBackend(NamedParameterJdbcTemplate jdbcTemplate,
+                                            LanguageRepository languageRepository,
+                                            TranslationChangeRepository translationChangeRepository,
+                                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.languageRepository = languageRepository;
+        this.translationChangeRepository = translationChangeRepository;
+        Gauge.builder("translation.search.index.documents", this, backend -> backend.index.size())
+                .description("Translations in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("translation.search.index.memory", this, backend -> backend.index.estimatedBytes())
+                .description("Estimated heap used by the in-memory search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Override
+    public Page<Translation> search(String searchTerm, Set<String> tags, Pageable pageable) {
+        NGramIndex.Result result = index.search(searchTerm, tags, pageable.getOffset(), pageable.getPageSize());
+        List<Translation> translations = new ArrayList<>(result.translations().size());
+        for (CachedTranslation translation : result.translations()) {
+            translations.add(translation.toTranslation());
+        }
+        return new PageImpl<>(translations, pageable, result.total());
+    }
+
+    @Override
+    public List<Translation> searchAfter(String searchTerm, Set<String> tags, SearchCursor after, int limit) {
+        List<Translation> translations = new ArrayList<>(limit);
+        for (CachedTranslation translation : index.searchAfter(searchTerm, tags, after.key(), after.id(), limit)) {
+            translations.add(translation.toTranslation());
+        }
+        return translations;
+    }
+
+    @Override
+    public long count(String searchTerm, Set<String> tags) {
+        return index.search(searchTerm, tags, 0, 0).total();
+    }
+
+    /**
+     * Rebuilds the index from the database, reclaiming replaced and deleted entries.
+     */
+    @Scheduled(initialDelayString = "${translation.search.memory.rebuild-interval:PT1H}",
+               fixedDelayString = "${translation.search.memory.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (syncLock) {
+            long start = System.nanoTime();
+            // Read revisions first: changes committed during the load are replayed by the next sync
+            Map<String, IndexedLanguage> revisions = new HashMap<>();
+            for (LanguageRepository.LanguageRevision language : languageRepository.findAllRevisionInfo()) {
+                revisions.put(language.getCode(), new IndexedLanguage(language.getId(), language.getRevision()));
+            }
+            NGramIndex fresh = new NGramIndex();
+            load("", new MapSqlParameterSource(), fresh::put);
+            index = fresh;
+            indexedRevisions.clear();
+            indexedRevisions.putAll(revisions);
+            log.info("Built search index with {} translations (~{} KB) in {} ms", fresh.size(),
+                    fresh.estimatedBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Applies changes made on other nodes since the last sync.
+     */
+    @Scheduled(initialDelayString = "${translation.search.memory.sync-interval:PT2S}",
+               fixedDelayString = "${translation.search.memory.sync-interval:PT2S}")
+    public void sync() {
+        synchronized (syncLock) {
+            Set<String> languageCodes = new HashSet<>();
+            for (LanguageRepository.LanguageRevision language : languageRepository.findAllRevisionInfo()) {
+                languageCodes.add(language.getCode());
+                IndexedLanguage indexed = indexedRevisions.get(language.getCode());
+                if (indexed != null && indexed.languageId() == language.getId()
+                        && indexed.revision() == language.getRevision()) {
+                    continue;
+                }
+                if (indexed == null || indexed.languageId() != language.getId()
+                        || indexed.revision() < language.getCompactedRevision()) {
+                    // New or recreated language, or the changes since the last sync are no longer logged
+                    index.removeLanguage(language.getCode());
+                    load(" WHERE l.code = :code", new MapSqlParameterSource("code", language.getCode()), index::put);
+                } else {
+                    Set<String> keys = new HashSet<>();
+                    translationChangeRepository.findChanges(language.getId(), indexed.revision(), language.getRevision())
+                            .forEach(change -> keys.add(change.getTranslationKey()));
+                    reload(language.getCode(), keys);
+                }
+                indexedRevisions.put(language.getCode(), new IndexedLanguage(language.getId(), language.getRevision()));
+            }
+            for (String languageCode : Set.copyOf(indexedRevisions.keySet())) {
+                if (!languageCodes.contains(languageCode)) {
+                    index.removeLanguage(languageCode);
+                    indexedRevisions.remove(languageCode);
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        try {
+            reload(event.languageCode(), event.changes().keySet());
+        } catch (RuntimeException e) {
+            // The next sync replays the change from the change log
+            log.warn("Could not update search index for language {}: {}", event.languageCode(), e.getMessage());
+        }
+    }
+
+    private void reload(String languageCode, Collection<String> keys) {
+        List<String> batch = new ArrayList<>(Math.min(keys.size(), KEY_BATCH_SIZE));
+        for (String key : keys) {
+            batch.add(key);
+            if (batch.size() == KEY_BATCH_SIZE) {
+                reloadBatch(languageCode, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            reloadBatch(languageCode, batch);
+        }
+    }
+
+    private void reloadBatch(String languageCode, List<String> keys) {
+        NGramIndex target = index;
+        Set<String> missing = new HashSet<>(keys);
+        load(" WHERE l.code = :code AND t.translation_key IN (:keys)",
+                new MapSqlParameterSource("code", languageCode).addValue("keys", keys),
+                translation -> {
+                    missing.remove(translation.key());
+                    target.put(translation);
+                });
+        for (String key : missing) {
+            target.remove(languageCode, key);
+        }
+    }
+
+    private void load(String where, MapSqlParameterSource parameters, Consumer<CachedTranslation> consumer) {
+        List<Row> rows = jdbcTemplate.query(SELECT_TRANSLATIONS + where + " ORDER BY t.id", parameters,
+                (rs, rowNum) -> Row.of(rs));
+        if (rows.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tags = new HashMap<>();
+        String tagWhere = where.isEmpty() ? "" : " WHERE tt.translation_id IN (SELECT t.id FROM translations t " +
+                "JOIN languages l ON l.id = t.language_id" + where + ")";
+        jdbcTemplate.query(SELECT_TAGS + tagWhere, parameters, rs -> {
+            tags.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+        });
+        for (Row row : rows) {
+            consumer.accept(new CachedTranslation(row.id, row.key, row.content, row.languageId, row.languageCode,
+                    tags.getOrDefault(row.id, List.of()), row.createdAt, row.updatedAt));
+        }
+    }
+
+    private record Row(long id, String key, String content, long languageId, String languageCode,
+                       LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+        static Row of(ResultSet rs) throws SQLException {
+            return new Row(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4), rs.getString(5),
+                    rs.getObject(6, LocalDateTime.class), rs.getObject(7, LocalDateTime.class));
+        }
+    }
+
+    private record IndexedLanguage(long languageId, long revision) {
+    }
+}
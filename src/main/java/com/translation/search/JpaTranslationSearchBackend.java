@@ -0,0 +1,41 @@
+package com.translation.search;
+
+import com.translation.model.Translation;
+import com.translation.repository.TranslationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Portable search using {@code LIKE} through JPQL. Works on every database but scans the
+ * whole table, so it is meant for tests and as a fallback.
+ */
+@RequiredArgsConstructor
+public class JpaTranslationSearchBackend implements TranslationSearchBackend {
+
+    private final TranslationRepository translationRepository;
+
+    @Override
+    public Page<Translation> search(String searchTerm, Set<String> tags, Pageable pageable) {
+        Page<Long> ids = translationRepository.searchTranslationIds(searchTerm, tags, pageable);
+        return new PageImpl<>(translationRepository.findAllWithTagsInOrder(ids.getContent()), pageable,
+                ids.getTotalElements());
+    }
+
+    @Override
+    public List<Translation> searchAfter(String searchTerm, Set<String> tags, SearchCursor after, int limit) {
+        List<Long> ids = translationRepository.searchIdsAfter(searchTerm, tags, after.key(), after.id(),
+                PageRequest.ofSize(limit));
+        return translationRepository.findAllWithTagsInOrder(ids);
+    }
+
+    @Override
+    public long count(String searchTerm, Set<String> tags) {
+        return translationRepository.countMatches(searchTerm, tags);
+    }
+}
@@ -0,0 +1,288 @@
+package com.translation.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Compressed trie over the dot-separated segments of translation keys.
+ * <p>
+ * Chains of namespaces with a single child are stored as one edge with several segments,
+ * so deep keys that share little cost one node each. Every node keeps the number of keys
+ * below it, which makes counting a namespace proportional to the prefix length. A key
+ * can also be a namespace of longer keys; both are tracked independently.
+ */
+public class KeyTrie {
+
+    private static final String SEPARATOR = ".";
+
+    private final Node root = new Node(new String[0]);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Immediate child of a namespace.
+     *
+     * @param keyCount number of keys strictly below the child
+     * @param key      whether the child itself is a key
+     */
+    public record Child(String name, long keyCount, boolean key) {
+    }
+
+    /**
+     * @return {@code false} if the key was already present
+     */
+    public boolean add(String key) {
+        String[] segments = segments(key);
+        if (segments.length == 0) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (contains(segments)) {
+                return false;
+            }
+            Node node = root;
+            int position = 0;
+            while (position < segments.length) {
+                node.below++;
+                Node child = node.children.get(segments[position]);
+                if (child == null) {
+                    Node leaf = new Node(Arrays.copyOfRange(segments, position, segments.length));
+                    leaf.key = true;
+                    node.children.put(segments[position], leaf);
+                    return true;
+                }
+                int common = commonLength(child.edge, segments, position);
+                if (common < child.edge.length) {
+                    child = split(node, child, common);
+                }
+                node = child;
+                position += common;
+            }
+            node.key = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return {@code false} if the key was not present
+     */
+    public boolean remove(String key) {
+        String[] segments = segments(key);
+        lock.writeLock().lock();
+        try {
+            if (!contains(segments)) {
+                return false;
+            }
+            List<Node> path = new ArrayList<>();
+            Node node = root;
+            int position = 0;
+            while (position < segments.length) {
+                path.add(node);
+                node.below--;
+                node = node.children.get(segments[position]);
+                position += node.edge.length;
+            }
+            node.key = false;
+            // Drop the emptied node and re-compress its parent
+            Node child = node;
+            for (int i = path.size() - 1; i >= 0; i--) {
+                Node parent = path.get(i);
+                if (!child.key && child.children.isEmpty()) {
+                    parent.children.remove(child.edge[0]);
+                } else {
+                    mergeSingleChild(child);
+                }
+                child = parent;
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String key) {
+        lock.readLock().lock();
+        try {
+            return contains(segments(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of keys strictly below the namespace; an empty prefix counts every key.
+     */
+    public long count(String prefix) {
+        lock.readLock().lock();
+        try {
+            Position position = find(segments(prefix));
+            if (position == null) {
+                return 0;
+            }
+            return position.remaining() == 0 ? position.node.below : position.node.below + (position.node.key ? 1 : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Immediate children of the namespace in segment order, empty if it has none.
+     */
+    public List<Child> children(String prefix) {
+        lock.readLock().lock();
+        try {
+            Position position = find(segments(prefix));
+            if (position == null) {
+                return List.of();
+            }
+            Node node = position.node;
+            if (position.remaining() > 0) {
+                // The prefix ends inside a compressed edge, which has exactly one child
+                String name = node.edge[position.offset];
+                boolean last = position.remaining() == 1;
+                return List.of(new Child(name, last ? node.below : node.below + (node.key ? 1 : 0), last && node.key));
+            }
+            List<Child> children = new ArrayList<>(node.children.size());
+            for (Node child : node.children.values()) {
+                boolean single = child.edge.length == 1;
+                children.add(new Child(child.edge[0], single ? child.below : child.below + (child.key ? 1 : 0),
+                        single && child.key));
+            }
+            return children;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visits the keys strictly below the namespace in segment order.
+     */
+    public void keys(String prefix, Consumer<String> consumer) {
+        lock.readLock().lock();
+        try {
+            String[] segments = segments(prefix);
+            Position position = find(segments);
+            if (position == null) {
+                return;
+            }
+            List<String> path = new ArrayList<>(Arrays.asList(segments));
+            for (int i = position.offset; i < position.node.edge.length; i++) {
+                path.add(position.node.edge[i]);
+            }
+            if (position.remaining() > 0 && position.node.key) {
+                consumer.accept(String.join(SEPARATOR, path));
+            }
+            visit(position.node, path, consumer);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        return count("");
+    }
+
+    private void visit(Node node, List<String> path, Consumer<String> consumer) {
+        for (Node child : node.children.values()) {
+            path.addAll(Arrays.asList(child.edge));
+            if (child.key) {
+                consumer.accept(String.join(SEPARATOR, path));
+            }
+            visit(child, path, consumer);
+            path.subList(path.size() - child.edge.length, path.size()).clear();
+        }
+    }
+
+    private boolean contains(String[] segments) {
+        Position position = find(segments);
+        return position != null && position.remaining() == 0 && position.node.key && segments.length > 0;
+    }
+
+    /**
+     * Locates the node whose edge holds the last segment of the prefix. {@code offset} is
+     * how far into that edge the prefix reaches.
+     */
+    private Position find(String[] segments) {
+        Node node = root;
+        int position = 0;
+        while (position < segments.length) {
+            Node child = node.children.get(segments[position]);
+            if (child == null) {
+                return null;
+            }
+            int common = commonLength(child.edge, segments, position);
+            if (common < child.edge.length && position + common < segments.length) {
+                return null;
+            }
+            node = child;
+            position += common;
+            if (common < child.edge.length) {
+                return new Position(node, common);
+            }
+        }
+        return new Position(node, node.edge.length);
+    }
+
+    private static Node split(Node parent, Node child, int length) {
+        Node head = new Node(Arrays.copyOf(child.edge, length));
+        head.below = child.below + (child.key ? 1 : 0);
+        child.edge = Arrays.copyOfRange(child.edge, length, child.edge.length);
+        head.children.put(child.edge[0], child);
+        parent.children.put(head.edge[0], head);
+        return head;
+    }
+
+    private static void mergeSingleChild(Node node) {
+        if (node.key || node.children.size() != 1) {
+            return;
+        }
+        Node child = node.children.values().iterator().next();
+        String[] edge = Arrays.copyOf(node.edge, node.edge.length + child.edge.length);
+        System.arraycopy(child.edge, 0, edge, node.edge.length, child.edge.length);
+        node.edge = edge;
+        node.key = child.key;
+        node.below = child.below;
+        node.children.clear();
+        node.children.putAll(child.children);
+    }
+
+    private static int commonLength(String[] edge, String[] segments, int from) {
+        int length = 0;
+        while (length < edge.length && from + length < segments.length && edge[length].equals(segments[from + length])) {
+            length++;
+        }
+        return length;
+    }
+
+    private static String[] segments(String key) {
+        return key.isEmpty() ? new String[0] : key.split("\\.", -1);
+    }
+
+    private record Position(Node node, int offset) {
+
+        int remaining() {
+            return node.edge.length - offset;
+        }
+    }
+
+    private static final class Node {
+
+        private String[] edge;
+        private boolean key;
+        /** Keys strictly below this node. */
+        private long below;
+        private final Map<String, Node> children = new TreeMap<>();
+
+        Node(String[] edge) {
+            this.edge = edge;
+        }
+    }
+}
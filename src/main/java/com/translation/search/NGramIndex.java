@@ -0,0 +1,357 @@
+package com.translation.search;
+
+import com.translation.cache.CachedTranslation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted trigram index over translation keys and contents, plus an index of tag names.
+ * <p>
+ * Every indexed translation gets a dense document id in insertion order; posting lists
+ * are sorted primitive int arrays, so intersections and unions are linear merges. A term
+ * is matched by intersecting the posting lists of its trigrams and verifying the
+ * remaining candidates, which removes trigram false positives. Matching is
+ * case-insensitive. Replaced and removed documents are only marked as deleted; the index
+ * is meant to be rebuilt periodically to reclaim them.
+ */
+public class NGramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final Comparator<CachedTranslation> KEY_ORDER =
+            Comparator.comparing(CachedTranslation::key).thenComparingLong(CachedTranslation::id);
+
+    private final List<CachedTranslation> documents = new ArrayList<>();
+    private final BitSet deleted = new BitSet();
+    private final Map<String, Integer> documentIds = new HashMap<>();
+    private final Map<Long, PostingList> grams = new HashMap<>();
+    private final Map<String, PostingList> tags = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Result(List<CachedTranslation> translations, long total) {
+    }
+
+    /**
+     * Adds a translation, replacing the one with the same language and key.
+     */
+    public void put(CachedTranslation translation) {
+        lock.writeLock().lock();
+        try {
+            int documentId = documents.size();
+            Integer previous = documentIds.put(documentKey(translation.languageCode(), translation.key()), documentId);
+            if (previous != null) {
+                deleted.set(previous);
+            }
+            documents.add(translation);
+            addGrams(translation.key(), documentId);
+            addGrams(translation.content(), documentId);
+            for (String tag : translation.tags()) {
+                tags.computeIfAbsent(tag, t -> new PostingList()).add(documentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String languageCode, String key) {
+        lock.writeLock().lock();
+        try {
+            Integer documentId = documentIds.remove(documentKey(languageCode, key));
+            if (documentId != null) {
+                deleted.set(documentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeLanguage(String languageCode) {
+        lock.writeLock().lock();
+        try {
+            documentIds.entrySet().removeIf(entry -> {
+                if (documents.get(entry.getValue()).languageCode().equals(languageCode)) {
+                    deleted.set(entry.getValue());
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds translations whose key or content contains the term, or that carry one of the
+     * tags, in the order they were indexed. A blank term matches every translation.
+     */
+    public Result search(String term, Collection<String> tagNames, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            PostingList matches = matches(term, tagNames);
+            List<CachedTranslation> page = new ArrayList<>(Math.min(limit, 64));
+            long total = 0;
+            int size = matches != null ? matches.size : documents.size();
+            for (int i = 0; i < size; i++) {
+                int documentId = matches != null ? matches.ids[i] : i;
+                if (deleted.get(documentId)) {
+                    continue;
+                }
+                if (total >= offset && page.size() < limit) {
+                    page.add(documents.get(documentId));
+                }
+                total++;
+            }
+            return new Result(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matches ordered by key and id that sort after the given
+     * position. Keeps only a bounded heap, so the cost does not depend on the position.
+     */
+    public List<CachedTranslation> searchAfter(String term, Collection<String> tagNames,
+                                               String afterKey, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            PostingList matches = matches(term, tagNames);
+            // Max-heap of the smallest entries seen so far
+            PriorityQueue<CachedTranslation> heap = new PriorityQueue<>(limit + 1, KEY_ORDER.reversed());
+            int size = matches != null ? matches.size : documents.size();
+            for (int i = 0; i < size; i++) {
+                int documentId = matches != null ? matches.ids[i] : i;
+                if (deleted.get(documentId)) {
+                    continue;
+                }
+                CachedTranslation translation = documents.get(documentId);
+                int position = translation.key().compareTo(afterKey);
+                if (position < 0 || (position == 0 && translation.id() <= afterId)) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(translation);
+                } else if (limit > 0 && KEY_ORDER.compare(translation, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(translation);
+                }
+            }
+            List<CachedTranslation> result = new ArrayList<>(heap);
+            result.sort(KEY_ORDER);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rough heap footprint of the index, including the stored translations.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (CachedTranslation translation : documents) {
+                bytes += 96 + stringBytes(translation.key()) + stringBytes(translation.content())
+                        + stringBytes(translation.languageCode());
+                for (String tag : translation.tags()) {
+                    bytes += 8 + stringBytes(tag);
+                }
+            }
+            bytes += documentIds.size() * 64L;
+            for (PostingList postings : grams.values()) {
+                bytes += 80 + postings.ids.length * 4L;
+            }
+            for (Map.Entry<String, PostingList> entry : tags.entrySet()) {
+                bytes += 80 + stringBytes(entry.getKey()) + entry.getValue().ids.length * 4L;
+            }
+            return bytes + deleted.size() / 8;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return matching document ids including deleted ones, or {@code null} for all documents
+     */
+    private PostingList matches(String term, Collection<String> tagNames) {
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : PostingList.union(termMatches(normalized), tagMatches(tagNames));
+    }
+
+    private PostingList termMatches(String term) {
+        PostingList candidates;
+        if (term.length() < GRAM_LENGTH) {
+            // Too short for a trigram: check every document
+            candidates = PostingList.range(documents.size());
+        } else {
+            long[] termGrams = grams(term);
+            PostingList[] postings = new PostingList[termGrams.length];
+            for (int i = 0; i < termGrams.length; i++) {
+                postings[i] = grams.get(termGrams[i]);
+                if (postings[i] == null) {
+                    return new PostingList();
+                }
+            }
+            // Intersect the rarest grams first to keep intermediate lists short
+            Arrays.sort(postings, (a, b) -> Integer.compare(a.size, b.size));
+            candidates = postings[0];
+            for (int i = 1; i < postings.length && candidates.size > 0; i++) {
+                candidates = PostingList.intersect(candidates, postings[i]);
+            }
+        }
+        PostingList verified = new PostingList();
+        for (int i = 0; i < candidates.size; i++) {
+            int documentId = candidates.ids[i];
+            CachedTranslation translation = documents.get(documentId);
+            if (!deleted.get(documentId)
+                    && (containsIgnoreCase(translation.key(), term) || containsIgnoreCase(translation.content(), term))) {
+                verified.add(documentId);
+            }
+        }
+        return verified;
+    }
+
+    private PostingList tagMatches(Collection<String> tagNames) {
+        PostingList matches = new PostingList();
+        for (String tag : tagNames) {
+            PostingList postings = tags.get(tag);
+            if (postings != null) {
+                matches = PostingList.union(matches, postings);
+            }
+        }
+        return matches;
+    }
+
+    private void addGrams(String text, int documentId) {
+        if (text == null) {
+            return;
+        }
+        for (long gram : grams(text.toLowerCase(Locale.ROOT))) {
+            grams.computeIfAbsent(gram, g -> new PostingList()).add(documentId);
+        }
+    }
+
+    private static long[] grams(String text) {
+        if (text.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+        long[] result = new long[text.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        return result;
+    }
+
+    private static boolean containsIgnoreCase(String text, String lowerCaseTerm) {
+        if (text == null) {
+            return false;
+        }
+        int last = text.length() - lowerCaseTerm.length();
+        for (int i = 0; i <= last; i++) {
+            if (text.regionMatches(true, i, lowerCaseTerm, 0, lowerCaseTerm.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String documentKey(String languageCode, String key) {
+        return languageCode + ":" + key;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+
+    /**
+     * Growable, sorted array of document ids.
+     */
+    private static final class PostingList {
+
+        private int[] ids;
+        private int size;
+
+        PostingList() {
+            this(new int[4], 0);
+        }
+
+        private PostingList(int[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        /**
+         * Appends an id; ids arrive in increasing order, so a repeat can only be the last one.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            ids[size++] = id;
+        }
+
+        static PostingList range(int size) {
+            int[] ids = new int[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = i;
+            }
+            return new PostingList(ids, size);
+        }
+
+        static PostingList intersect(PostingList a, PostingList b) {
+            int[] result = new int[Math.min(a.size, b.size)];
+            int i = 0, j = 0, n = 0;
+            while (i < a.size && j < b.size) {
+                if (a.ids[i] < b.ids[j]) {
+                    i++;
+                } else if (a.ids[i] > b.ids[j]) {
+                    j++;
+                } else {
+                    result[n++] = a.ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new PostingList(result, n);
+        }
+
+        static PostingList union(PostingList a, PostingList b) {
+            int[] result = new int[a.size + b.size];
+            int i = 0, j = 0, n = 0;
+            while (i < a.size || j < b.size) {
+                if (j == b.size || (i < a.size && a.ids[i] < b.ids[j])) {
+                    result[n++] = a.ids[i++];
+                } else if (i == a.size || b.ids[j] < a.ids[i]) {
+                    result[n++] = b.ids[j++];
+                } else {
+                    result[n++] = a.ids[i++];
+                    j++;
+                }
+            }
+            return new PostingList(result, n);
+        }
+    }
+}
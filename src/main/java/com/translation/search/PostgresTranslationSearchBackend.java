@@ -0,0 +1,151 @@
+package com.translation.search;
+
+import com.translation.model.Translation;
+import com.translation.repository.TranslationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Search on PostgreSQL using {@code pg_trgm} GIN indexes for substring and fuzzy matches
+ * and a generated {@code tsvector} column for word matches, ordered by relevance.
+ * <p>
+ * The extension, column and indexes are created on startup if missing. When that fails,
+ * for example because the database user may not create extensions, searches fall back to
+ * the portable JPA backend.
+ */
+@Slf4j
+public class PostgresTranslationSearchBackend implements TranslationSearchBackend, SmartInitializingSingleton {
+
+    // 'simple' does no stemming, which suits content in many languages; dots separate key segments
+    private static final String[] SCHEMA = {
+        "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+        "ALTER TABLE translations ADD COLUMN IF NOT EXISTS search_vector tsvector " +
+            "GENERATED ALWAYS AS (to_tsvector('simple', replace(translation_key, '.', ' ') || ' ' || content)) STORED",
+        "CREATE INDEX IF NOT EXISTS idx_translation_search_vector ON translations USING gin (search_vector)",
+        "CREATE INDEX IF NOT EXISTS idx_translation_content_trgm ON translations USING gin (content gin_trgm_ops)",
+        "CREATE INDEX IF NOT EXISTS idx_translation_key_trgm ON translations USING gin (translation_key gin_trgm_ops)"
+    };
+
+    private static final String TERM_MATCH =
+            "(t.translation_key ILIKE :pattern OR t.content ILIKE :pattern " +
+            "OR t.search_vector @@ plainto_tsquery('simple', :term) OR :term <% t.content)";
+
+    private static final String TAG_MATCH =
+            "EXISTS (SELECT 1 FROM translation_tags tt JOIN tags g ON g.id = tt.tag_id " +
+            "WHERE tt.translation_id = t.id AND g.name IN (:tags))";
+
+    private static final String RANK =
+            "ts_rank(t.search_vector, plainto_tsquery('simple', :term)) " +
+            "+ word_similarity(:term, t.content) + similarity(t.translation_key, :term)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TranslationRepository translationRepository;
+    private final TranslationSearchBackend fallback;
+    private volatile boolean available;
+
+    public PostgresTranslationSearchBackend(NamedParameterJdbcTemplate jdbcTemplate,
+                                            TranslationRepository translationRepository,
+                                            TranslationSearchBackend fallback) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.translationRepository = translationRepository;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Runs after the schema has been generated, which happens while the entity manager
+     * factory is created.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            for (String statement : SCHEMA) {
+                jdbcTemplate.getJdbcTemplate().execute(statement);
+            }
+            available = true;
+        } catch (DataAccessException e) {
+            log.warn("Full-text search is unavailable, falling back to LIKE queries: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Page<Translation> search(String searchTerm, Set<String> tags, Pageable pageable) {
+        if (!available) {
+            return fallback.search(searchTerm, tags, pageable);
+        }
+        String term = searchTerm.trim();
+        MapSqlParameterSource parameters = parameters(term, tags)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        String where = " WHERE " + matchCondition(term, tags);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translations t" + where, parameters, Long.class);
+        if (total == null || total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total != null ? total : 0);
+        }
+
+        String orderBy = term.isEmpty() ? " ORDER BY t.id" : " ORDER BY " + RANK + " DESC, t.id";
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT t.id FROM translations t" + where + orderBy + " LIMIT :limit OFFSET :offset",
+                parameters, Long.class);
+        return new PageImpl<>(translationRepository.findAllWithTagsInOrder(ids), pageable, total);
+    }
+
+    @Override
+    public List<Translation> searchAfter(String searchTerm, Set<String> tags, SearchCursor after, int limit) {
+        if (!available) {
+            return fallback.searchAfter(searchTerm, tags, after, limit);
+        }
+        String term = searchTerm.trim();
+        MapSqlParameterSource parameters = parameters(term, tags)
+                .addValue("afterKey", after.key())
+                .addValue("afterId", after.id())
+                .addValue("limit", limit);
+        // Row comparison lets the planner walk the key index from the cursor position
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT t.id FROM translations t WHERE " + matchCondition(term, tags) +
+                " AND (t.translation_key, t.id) > (:afterKey, :afterId)" +
+                " ORDER BY t.translation_key, t.id LIMIT :limit",
+                parameters, Long.class);
+        return translationRepository.findAllWithTagsInOrder(ids);
+    }
+
+    @Override
+    public long count(String searchTerm, Set<String> tags) {
+        if (!available) {
+            return fallback.count(searchTerm, tags);
+        }
+        String term = searchTerm.trim();
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM translations t WHERE " + matchCondition(term, tags),
+                parameters(term, tags), Long.class);
+        return total != null ? total : 0;
+    }
+
+    private static MapSqlParameterSource parameters(String term, Set<String> tags) {
+        return new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("pattern", "%" + escapeLike(term) + "%")
+                .addValue("tags", tags);
+    }
+
+    private static String matchCondition(String term, Set<String> tags) {
+        if (term.isEmpty()) {
+            // A blank term matches everything, as with the LIKE based search
+            return "TRUE";
+        }
+        return tags.isEmpty() ? TERM_MATCH : "(" + TERM_MATCH + " OR " + TAG_MATCH + ")";
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,36 @@
+package com.translation.search;
+
+import com.translation.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a key-ordered result: the key and id of the last translation returned.
+ * Clients only see it as an opaque token.
+ */
+public record SearchCursor(String key, long id) {
+
+    /**
+     * Position before the first translation; keys are never empty.
+     */
+    public static final SearchCursor START = new SearchCursor("", 0);
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id + ":" + key).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BadRequestException if the token was not produced by {@link #encode()}
+     */
+    public static SearchCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(':');
+            return new SearchCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid search cursor", e);
+        }
+    }
+}
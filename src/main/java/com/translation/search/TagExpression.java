@@ -0,0 +1,236 @@
+package com.translation.search;
+
+import com.translation.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Boolean expression over tag names, such as {@code mobile AND NOT (desktop OR legacy)}.
+ * <p>
+ * {@code NOT} binds tighter than {@code AND}, which binds tighter than {@code OR}.
+ * Operators are case-insensitive and may also be written as {@code !}, {@code &} and
+ * {@code |}; two tags next to each other are combined with {@code AND}. Tags named like an
+ * operator, or containing spaces or operator characters, are written in double quotes,
+ * such as {@code "not" OR "sign in"}, with {@code \"} and {@code \\} escaping a quote and
+ * a backslash inside them.
+ */
+public abstract class TagExpression {
+
+    /**
+     * Evaluates the expression against the translations in {@code universe}.
+     *
+     * @param tags bitmap of the translations carrying a tag, or {@code null} if none do
+     */
+    public abstract CompressedBitmap evaluate(Function<String, CompressedBitmap> tags, CompressedBitmap universe);
+
+    /**
+     * @throws BadRequestException if the expression is malformed
+     */
+    public static TagExpression parse(String expression) {
+        Parser parser = new Parser(tokenize(expression));
+        TagExpression result = parser.or();
+        if (parser.position < parser.tokens.size()) {
+            throw new BadRequestException("Unexpected '" + parser.tokens.get(parser.position).text()
+                    + "' in tag expression");
+        }
+        return result;
+    }
+
+    private static List<Token> tokenize(String expression) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == '!' || c == '&' || c == '|') {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            } else if (c == '"') {
+                StringBuilder name = new StringBuilder();
+                i++;
+                while (i < expression.length() && expression.charAt(i) != '"') {
+                    if (expression.charAt(i) == '\\' && i + 1 < expression.length()) {
+                        i++;
+                    }
+                    name.append(expression.charAt(i++));
+                }
+                if (i == expression.length()) {
+                    throw new BadRequestException("Missing closing '\"' in tag expression");
+                }
+                tokens.add(new Token(name.toString(), true));
+                i++;
+            } else {
+                int start = i;
+                while (i < expression.length() && !Character.isWhitespace(expression.charAt(i))
+                        && "()!&|\"".indexOf(expression.charAt(i)) < 0) {
+                    i++;
+                }
+                tokens.add(new Token(expression.substring(start, i), false));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * @param quoted whether the token was written in quotes, making it a tag name even if
+     *               it reads like an operator
+     */
+    private record Token(String text, boolean quoted) {
+    }
+
+    private static final class Parser {
+
+        private final List<Token> tokens;
+        private int position;
+
+        Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        TagExpression or() {
+            TagExpression left = and();
+            while (accept("OR", "|")) {
+                left = new Or(left, and());
+            }
+            return left;
+        }
+
+        TagExpression and() {
+            TagExpression left = not();
+            while (position < tokens.size() && !is("OR", "|") && !is(")")) {
+                accept("AND", "&");
+                left = new And(left, not());
+            }
+            return left;
+        }
+
+        TagExpression not() {
+            if (accept("NOT", "!")) {
+                return new Not(not());
+            }
+            if (accept("(")) {
+                TagExpression inner = or();
+                if (!accept(")")) {
+                    throw new BadRequestException("Missing ')' in tag expression");
+                }
+                return inner;
+            }
+            if (position == tokens.size()) {
+                throw new BadRequestException("Incomplete tag expression");
+            }
+            if (is("AND", "&") || is("OR", "|") || is(")")) {
+                throw new BadRequestException("Unexpected '" + tokens.get(position).text()
+                        + "' in tag expression");
+            }
+            return new Tag(tokens.get(position++).text());
+        }
+
+        private boolean accept(String... alternatives) {
+            if (is(alternatives)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean is(String... alternatives) {
+            if (position == tokens.size() || tokens.get(position).quoted()) {
+                return false;
+            }
+            String token = tokens.get(position).text().toUpperCase(Locale.ROOT);
+            for (String alternative : alternatives) {
+                if (alternative.equals(token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Tag extends TagExpression {
+
+        private final String name;
+
+        Tag(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> tags, CompressedBitmap universe) {
+            CompressedBitmap bitmap = tags.apply(name);
+            return bitmap == null ? new CompressedBitmap() : CompressedBitmap.and(bitmap, universe);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final class Not extends TagExpression {
+
+        private final TagExpression operand;
+
+        Not(TagExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> tags, CompressedBitmap universe) {
+            return CompressedBitmap.andNot(universe, operand.evaluate(tags, universe));
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + operand;
+        }
+    }
+
+    private static final class And extends TagExpression {
+
+        private final TagExpression left;
+        private final TagExpression right;
+
+        And(TagExpression left, TagExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> tags, CompressedBitmap universe) {
+            // The left side narrows the universe of the right, so A AND NOT B never builds NOT B in full
+            CompressedBitmap matches = left.evaluate(tags, universe);
+            return matches.isEmpty() ? matches : right.evaluate(tags, matches);
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " AND " + right + ")";
+        }
+    }
+
+    private static final class Or extends TagExpression {
+
+        private final TagExpression left;
+        private final TagExpression right;
+
+        Or(TagExpression left, TagExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public CompressedBitmap evaluate(Function<String, CompressedBitmap> tags, CompressedBitmap universe) {
+            return CompressedBitmap.or(left.evaluate(tags, universe), right.evaluate(tags, universe));
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " OR " + right + ")";
+        }
+    }
+}
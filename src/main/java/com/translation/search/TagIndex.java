@@ -0,0 +1,197 @@
+package com.translation.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bitmaps of translations per tag and per language.
+ * <p>
+ * Tag expressions are evaluated with bitmap operations inside the languages asked for,
+ * so filtering never touches {@code translation_tags}. Facet counts are intersection
+ * cardinalities of the matches with every tag bitmap.
+ * <p>
+ * The bitmaps hold dense int positions assigned in the order translations are added, not
+ * the database ids, which are longs and may be sparse. Positions of removed translations
+ * are not reused, so results keep the order translations were added in; a rebuilt index
+ * starts from position 0 again.
+ */
+public class TagIndex {
+
+    private final Map<String, CompressedBitmap> tags = new HashMap<>();
+    private final Map<String, CompressedBitmap> languages = new HashMap<>();
+    private final Map<String, Map<String, Integer>> positionsByKey = new HashMap<>();
+    private long[] translationIds = new long[1024];
+    private int nextPosition;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param ids    matching translation ids of the requested page, in the order they were added
+     * @param facets number of matches per tag, most frequent first; empty unless requested
+     */
+    public record Result(List<Long> ids, long total, Map<String, Long> facets) {
+    }
+
+    /**
+     * Sets the tags of a translation, replacing those it had before.
+     */
+    public void put(String languageCode, String key, long translationId, Collection<String> tagNames) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> languagePositions = positionsByKey.computeIfAbsent(languageCode, code -> new HashMap<>());
+            Integer previous = languagePositions.get(key);
+            if (previous != null) {
+                clear(previous);
+                if (translationIds[previous] != translationId) {
+                    previous = null;
+                }
+            }
+            int position = previous != null ? previous : assign(translationId);
+            languagePositions.put(key, position);
+            languages.computeIfAbsent(languageCode, code -> new CompressedBitmap()).add(position);
+            for (String tag : tagNames) {
+                tags.computeIfAbsent(tag, name -> new CompressedBitmap()).add(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String languageCode, String key) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> languagePositions = positionsByKey.get(languageCode);
+            Integer position = languagePositions != null ? languagePositions.remove(key) : null;
+            if (position != null) {
+                clear(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeLanguage(String languageCode) {
+        lock.writeLock().lock();
+        try {
+            Map<String, Integer> languagePositions = positionsByKey.remove(languageCode);
+            CompressedBitmap languageBitmap = languages.remove(languageCode);
+            if (languagePositions == null || languageBitmap == null) {
+                return;
+            }
+            tags.replaceAll((tag, bitmap) -> CompressedBitmap.andNot(bitmap, languageBitmap));
+            tags.values().removeIf(CompressedBitmap::isEmpty);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param expression    tag filter, or {@code null} to match every translation
+     * @param languageCodes languages to search, or empty for all of them
+     */
+    public Result query(TagExpression expression, Collection<String> languageCodes, long offset, int limit,
+                        boolean facets) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap universe = new CompressedBitmap();
+            for (Map.Entry<String, CompressedBitmap> language : languages.entrySet()) {
+                if (languageCodes.isEmpty() || languageCodes.contains(language.getKey())) {
+                    universe = CompressedBitmap.or(universe, language.getValue());
+                }
+            }
+            CompressedBitmap matches = expression != null ? expression.evaluate(tags::get, universe) : universe;
+
+            List<Long> page = new ArrayList<>();
+            for (int position : matches.select(offset, limit)) {
+                page.add(translationIds[position]);
+            }
+            return new Result(page, matches.cardinality(), facets ? facets(matches) : Map.of());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            long size = 0;
+            for (CompressedBitmap bitmap : languages.values()) {
+                size += bitmap.cardinality();
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rough heap footprint of the bitmaps and the key and position mappings.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (CompressedBitmap bitmap : tags.values()) {
+                bytes += 64 + bitmap.estimatedBytes();
+            }
+            for (CompressedBitmap bitmap : languages.values()) {
+                bytes += 64 + bitmap.estimatedBytes();
+            }
+            for (Map<String, Integer> languagePositions : positionsByKey.values()) {
+                for (String key : languagePositions.keySet()) {
+                    bytes += 72 + key.length();
+                }
+            }
+            bytes += 8L * translationIds.length;
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Long> facets(CompressedBitmap matches) {
+        List<Map.Entry<String, Long>> counts = new ArrayList<>();
+        for (Map.Entry<String, CompressedBitmap> tag : tags.entrySet()) {
+            long count = CompressedBitmap.andCardinality(matches, tag.getValue());
+            if (count > 0) {
+                counts.add(Map.entry(tag.getKey(), count));
+            }
+        }
+        counts.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Long> facets = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> count : counts) {
+            facets.put(count.getKey(), count.getValue());
+        }
+        return facets;
+    }
+
+    private int assign(long translationId) {
+        if (nextPosition == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Tag index is out of positions, rebuild it");
+        }
+        int position = nextPosition++;
+        if (position == translationIds.length) {
+            translationIds = Arrays.copyOf(translationIds, (int) Math.min(2L * position, Integer.MAX_VALUE));
+        }
+        translationIds[position] = translationId;
+        return position;
+    }
+
+    private void clear(int position) {
+        for (CompressedBitmap bitmap : languages.values()) {
+            bitmap.remove(position);
+        }
+        tags.values().removeIf(bitmap -> {
+            bitmap.remove(position);
+            return bitmap.isEmpty();
+        });
+    }
+}
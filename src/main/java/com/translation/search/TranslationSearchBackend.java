@@ -0,0 +1,30 @@
+package com.translation.search;
+
+import com.translation.model.Translation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds translations whose key or content matches a search term, or that carry one of
+ * the given tags. Implementations decide how matches are found and how pages are ranked;
+ * cursor searches are always ordered by key and id.
+ */
+public interface TranslationSearchBackend {
+
+    /**
+     * @param searchTerm term to match, never {@code null}; blank matches every translation
+     * @param tags       tag names, never {@code null}
+     */
+    Page<Translation> search(String searchTerm, Set<String> tags, Pageable pageable);
+
+    /**
+     * Returns up to {@code limit} matches ordered by key and id, starting after the
+     * cursor. Unlike offset pagination the cost does not grow with the position.
+     */
+    List<Translation> searchAfter(String searchTerm, Set<String> tags, SearchCursor after, int limit);
+
+    long count(String searchTerm, Set<String> tags);
+}
@@ -0,0 +1,47 @@
+package com.translation.seed;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Shape of a synthetic dataset. Two datasets built from equal specs are identical.
+ */
+@Data
+@Builder
+public class SeedSpec {
+
+    @Builder.Default
+    private long seed = 42;
+
+    /**
+     * Keys per language; every language gets the same keys.
+     */
+    @Builder.Default
+    private int keys = 20_000;
+
+    /**
+     * Languages to seed. They must exist and have no translations yet.
+     */
+    @Builder.Default
+    private List<String> languages = List.of("en");
+
+    /**
+     * Tag names, created if missing. Earlier tags are used more often than later ones.
+     */
+    @Builder.Default
+    private List<String> tags = List.of("mobile", "web", "desktop");
+
+    /**
+     * Upper bound of tags per key; each key gets between none and this many.
+     */
+    @Builder.Default
+    private int maxTagsPerTranslation = 3;
+
+    /**
+     * Average length of a translation in characters.
+     */
+    @Builder.Default
+    private int contentLength = 40;
+}
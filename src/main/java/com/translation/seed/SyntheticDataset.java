@@ -0,0 +1,87 @@
+package com.translation.seed;
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Generates the translations of a {@link SeedSpec}. Every value is derived from the seed
+ * and the position of the key alone, so rows can be produced in any order, regenerated
+ * for a second pass without being kept in memory, and come out the same on every run.
+ */
+public class SyntheticDataset {
+
+    private static final String[] CATEGORIES = {"common", "error", "success", "validation", "navigation"};
+    private static final String[] SECTIONS = {"header", "footer", "sidebar", "main", "form"};
+    private static final String[] WORDS = {
+            "account", "action", "address", "again", "cancel", "change", "confirm", "continue",
+            "delete", "details", "email", "enter", "field", "file", "invalid", "later", "message",
+            "missing", "name", "password", "please", "profile", "required", "save", "search",
+            "settings", "submit", "success", "try", "update", "upload", "your"
+    };
+
+    private static final int KEY_STREAM = -1;
+    private static final int TAG_STREAM = -2;
+
+    private final SeedSpec spec;
+
+    public SyntheticDataset(SeedSpec spec) {
+        if (spec.getKeys() < 0 || spec.getMaxTagsPerTranslation() < 0 || spec.getContentLength() < 0) {
+            throw new IllegalArgumentException("Seed sizes must not be negative");
+        }
+        this.spec = spec;
+    }
+
+    public int size() {
+        return spec.getKeys();
+    }
+
+    public String key(int index) {
+        SplittableRandom random = random(index, KEY_STREAM);
+        return CATEGORIES[random.nextInt(CATEGORIES.length)] + "." +
+               SECTIONS[random.nextInt(SECTIONS.length)] + ".key" + index;
+    }
+
+    public String content(int index, String languageCode) {
+        SplittableRandom random = random(index, languageCode.hashCode() & Integer.MAX_VALUE);
+        int length = spec.getContentLength() / 2 + random.nextInt(spec.getContentLength() + 1);
+        StringBuilder content = new StringBuilder(length + 16)
+                .append('[').append(languageCode.toUpperCase(Locale.ROOT)).append(']');
+        while (content.length() < length) {
+            content.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return content.toString();
+    }
+
+    /**
+     * @return positions in {@link SeedSpec#getTags()} of the tags of a key, in ascending order
+     */
+    public int[] tags(int index) {
+        int available = spec.getTags().size();
+        if (available == 0) {
+            return new int[0];
+        }
+        SplittableRandom random = random(index, TAG_STREAM);
+        int count = random.nextInt(Math.min(spec.getMaxTagsPerTranslation(), available) + 1);
+        boolean[] picked = new boolean[available];
+        for (int found = 0; found < count; ) {
+            // Squaring skews the choice towards the first tags
+            double skewed = random.nextDouble();
+            int tag = (int) (available * skewed * skewed);
+            if (!picked[tag]) {
+                picked[tag] = true;
+                found++;
+            }
+        }
+        int[] tags = new int[count];
+        for (int tag = 0, i = 0; tag < available; tag++) {
+            if (picked[tag]) {
+                tags[i++] = tag;
+            }
+        }
+        return tags;
+    }
+
+    private SplittableRandom random(int index, int stream) {
+        return new SplittableRandom(spec.getSeed() * 0x9E3779B97F4A7C15L + (((long) index << 32) | (stream & 0xFFFFFFFFL)));
+    }
+}
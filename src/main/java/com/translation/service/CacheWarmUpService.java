@@ -0,0 +1,164 @@
+package com.translation.service;
+
+import com.translation.cache.CacheAccessTracker;
+import com.translation.cache.LanguageRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds the export snapshots of the languages, merged with their fallback languages
+ * where they have any, and loads the most requested keys into the caches on startup.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, so the instance only reports ready once warm-up
+ * has finished or its time budget is used up; whatever has not been loaded by then is
+ * abandoned and loaded on demand instead.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "translation.cache.warm-up.enabled", havingValue = "true")
+public class CacheWarmUpService implements ApplicationRunner {
+
+    private static final String ALL_LANGUAGES = "all";
+
+    private final TranslationService translationService;
+    private final ExportSnapshotService exportSnapshotService;
+    private final LanguageRegistry languageRegistry;
+    private final CacheAccessTracker cacheAccessTracker;
+    private final MeterRegistry meterRegistry;
+    private final String languages;
+    private final int topKeys;
+    private final int parallelism;
+    private final Duration timeBudget;
+
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+
+    public CacheWarmUpService(TranslationService translationService,
+                              ExportSnapshotService exportSnapshotService,
+                              LanguageRegistry languageRegistry,
+                              CacheAccessTracker cacheAccessTracker,
+                              MeterRegistry meterRegistry,
+                              @Value("${translation.cache.warm-up.languages:all}") String languages,
+                              @Value("${translation.cache.warm-up.top-keys:1000}") int topKeys,
+                              @Value("${translation.cache.warm-up.parallelism:4}") int parallelism,
+                              @Value("${translation.cache.warm-up.time-budget:30s}") Duration timeBudget) {
+        this.translationService = translationService;
+        this.exportSnapshotService = exportSnapshotService;
+        this.languageRegistry = languageRegistry;
+        this.cacheAccessTracker = cacheAccessTracker;
+        this.meterRegistry = meterRegistry;
+        this.languages = languages;
+        this.topKeys = topKeys;
+        this.parallelism = parallelism;
+        this.timeBudget = timeBudget;
+        Gauge.builder("translation.cache.warmup.progress", this,
+                        service -> service.scheduled.get() == 0 ? 1.0 : (double) service.completed.get() / service.scheduled.get())
+                .description("Fraction of scheduled warm-up loads that have finished")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    /**
+     * @return {@code true} if every scheduled entry was processed within the time budget
+     */
+    public boolean warmUp() {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("cache-warm-up-"));
+        try {
+            for (String languageCode : languageCodes()) {
+                submit(executor, "exportSnapshots", () -> exportSnapshotService.getSnapshot(languageCode));
+                if (languageRegistry.fallbackChain(languageCode).size() > 1) {
+                    submit(executor, "mergedExportSnapshots", () -> exportSnapshotService.getMergedSnapshot(languageCode));
+                }
+            }
+            for (CacheAccessTracker.HotKey hotKey : hotKeys()) {
+                submit(executor, "translations",
+                        () -> translationService.getTranslation(hotKey.key(), hotKey.languageCode()));
+            }
+            executor.shutdown();
+            boolean finished = executor.awaitTermination(timeBudget.toMillis(), TimeUnit.MILLISECONDS);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (finished) {
+                log.info("Cache warm-up loaded {} entries in {} ms", completed.get(), elapsedMs);
+            } else {
+                log.warn("Cache warm-up stopped after {} ms with {}/{} entries processed",
+                        elapsedMs, completed.get(), scheduled.get());
+            }
+            return finished;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException e) {
+            // A cold cache is not a reason to keep the instance from starting
+            log.error("Cache warm-up failed", e);
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> languageCodes() {
+        if (ALL_LANGUAGES.equalsIgnoreCase(languages.trim())) {
+            return languageRegistry.all().stream()
+                    .map(LanguageRegistry.Entry::code)
+                    .toList();
+        }
+        return Arrays.stream(languages.split(","))
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .toList();
+    }
+
+    private List<CacheAccessTracker.HotKey> hotKeys() {
+        try {
+            return cacheAccessTracker.topKeys(topKeys);
+        } catch (RuntimeException e) {
+            log.warn("Could not read access statistics, skipping key warm-up: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void submit(ExecutorService executor, String cacheName, Runnable load) {
+        scheduled.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                load.run();
+                entries(cacheName, "loaded").increment();
+            } catch (EntityNotFoundException e) {
+                entries(cacheName, "skipped").increment();
+            } catch (RuntimeException e) {
+                entries(cacheName, "failed").increment();
+                log.debug("Cache warm-up load failed for {}: {}", cacheName, e.getMessage());
+            } finally {
+                completed.incrementAndGet();
+            }
+        });
+    }
+
+    private Counter entries(String cacheName, String result) {
+        return Counter.builder("translation.cache.warmup.entries")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
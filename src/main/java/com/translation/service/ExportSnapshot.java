@@ -0,0 +1,24 @@
+package com.translation.service;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Serialized export of a language, kept together with its compressed variant and a
+ * content hash so that requests can be answered without touching the database.
+ */
+@Value
+public class ExportSnapshot {
+    String languageCode;
+    long revision;
+    byte[] json;
+    byte[] gzip;
+    String etag;
+    Instant builtAt;
+
+    public boolean isOlderThan(Duration maxAge) {
+        return builtAt.plus(maxAge).isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,261 @@
+package com.translation.service;
+
+import com.translation.cache.LanguageRegistry;
+import com.translation.cache.SingleFlight;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.repository.LanguageRepository;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps pre-serialized, pre-compressed export snapshots per language, and per language
+ * merged with its fallback languages.
+ * <p>
+ * Snapshots are rebuilt in the background shortly after a write so bursts of edits
+ * result in a single rebuild; until then the previous snapshot keeps being served.
+ * Writes made on other nodes are detected by comparing the snapshot with the language
+ * revision, which is checked at most once per {@code revision-check-interval}. A merged
+ * snapshot carries the sum of the revisions of its languages, which grows with a write
+ * to any of them.
+ */
+@Slf4j
+@Service
+public class ExportSnapshotService {
+
+    // Joins the language codes of a merged snapshot into its key; plain snapshots are keyed by their code
+    private static final String CHAIN_SEPARATOR = ">";
+
+    private final TranslationExportService translationExportService;
+    private final LanguageRepository languageRepository;
+    private final LanguageRegistry languageRegistry;
+    private final Duration maxAge;
+    private final Duration rebuildDelay;
+    private final Duration revisionCheckInterval;
+
+    private final Map<String, ExportSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final SingleFlight<String, ExportSnapshot> builds = new SingleFlight<>();
+    private final Map<String, Long> revisionChecks = new ConcurrentHashMap<>();
+    private final Set<String> pendingRebuilds = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export-snapshot-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ExportSnapshotService(TranslationExportService translationExportService,
+                                 LanguageRepository languageRepository,
+                                 LanguageRegistry languageRegistry,
+                                 @Value("${translation.export.snapshot.max-age:5m}") Duration maxAge,
+                                 @Value("${translation.export.snapshot.rebuild-delay:500ms}") Duration rebuildDelay,
+                                 @Value("${translation.export.snapshot.revision-check-interval:1s}") Duration revisionCheckInterval) {
+        this.translationExportService = translationExportService;
+        this.languageRepository = languageRepository;
+        this.languageRegistry = languageRegistry;
+        this.maxAge = maxAge;
+        this.rebuildDelay = rebuildDelay;
+        this.revisionCheckInterval = revisionCheckInterval;
+    }
+
+    /**
+     * Returns the current snapshot of a language, building it on the calling thread when
+     * none exists yet. Concurrent callers for the same language share one build.
+     *
+     * @throws EntityNotFoundException if the language does not exist (anymore)
+     */
+    public ExportSnapshot getSnapshot(String languageCode) {
+        return getSnapshot(languageCode, false);
+    }
+
+    /**
+     * Like {@link #getSnapshot(String)}, with the keys missing in the language filled in
+     * from its fallback languages, so {@code fr-ca} includes the keys of {@code fr} and
+     * {@code en} that it does not translate itself.
+     */
+    public ExportSnapshot getMergedSnapshot(String languageCode) {
+        return getSnapshot(languageCode, true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        for (String key : snapshots.keySet()) {
+            if (chain(key).contains(event.languageCode())) {
+                scheduleRebuild(key);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private ExportSnapshot getSnapshot(String languageCode, boolean merged) {
+        if (languageRegistry.find(languageCode).isEmpty()) {
+            // Deleted or renamed: drop its snapshots instead of serving them until the next revision check
+            snapshots.keySet().removeIf(key -> chain(key).get(0).equals(languageCode));
+            revisionChecks.keySet().removeIf(key -> chain(key).get(0).equals(languageCode));
+            throw new EntityNotFoundException("Language not found: " + languageCode);
+        }
+        List<String> chain = merged ? languageRegistry.fallbackChain(languageCode) : List.of();
+        String key = chain.size() > 1 ? String.join(CHAIN_SEPARATOR, chain) : languageCode;
+        ExportSnapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            if (chain.size() > 1) {
+                // Drop the snapshot of the language's previous fallback chain, if it changed
+                snapshots.keySet().removeIf(other -> other.startsWith(chain.get(0) + CHAIN_SEPARATOR));
+            }
+            return build(key);
+        }
+        if (revisionChanged(key, snapshot) || snapshot.isOlderThan(maxAge)) {
+            scheduleRebuild(key);
+        }
+        return snapshot;
+    }
+
+    private void scheduleRebuild(String key) {
+        if (!pendingRebuilds.add(key)) {
+            return;
+        }
+        scheduler.schedule(() -> {
+            pendingRebuilds.remove(key);
+            try {
+                build(key);
+            } catch (EntityNotFoundException e) {
+                log.debug("Dropped export snapshot {}: {}", key, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild export snapshot {}", key, e);
+            }
+        }, rebuildDelay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private ExportSnapshot build(String key) {
+        try {
+            return builds.execute(key, () -> {
+                // Read the revision first: a concurrent write then only causes one extra rebuild
+                Optional<Long> revision = revision(chain(key));
+                if (revision.isEmpty()) {
+                    throw languageRemoved(key);
+                }
+                ExportSnapshot snapshot = createSnapshot(chain(key), revision.get());
+                snapshots.put(key, snapshot);
+                revisionChecks.put(key, System.nanoTime());
+                return snapshot;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to build export snapshot " + key, e);
+        }
+    }
+
+    private ExportSnapshot createSnapshot(List<String> chain, long revision) {
+        String languageCode = chain.get(0);
+        long start = System.nanoTime();
+        try {
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            if (chain.size() == 1) {
+                translationExportService.writeTranslations(languageCode, json);
+            } else {
+                translationExportService.writeMergedTranslations(chain, json);
+            }
+            byte[] jsonBytes = json.toByteArray();
+
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(jsonBytes.length / 4 + 64);
+            try (GZIPOutputStream gzipStream = new GZIPOutputStream(gzip)) {
+                gzipStream.write(jsonBytes);
+            }
+
+            ExportSnapshot snapshot = new ExportSnapshot(languageCode, revision, jsonBytes,
+                    gzip.toByteArray(), contentHash(jsonBytes), Instant.now());
+            log.debug("Built export snapshot for languages {} ({} bytes, {} gzipped) in {} ms",
+                    chain, jsonBytes.length, snapshot.getGzip().length,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean revisionChanged(String key, ExportSnapshot snapshot) {
+        long now = System.nanoTime();
+        Long lastCheck = revisionChecks.get(key);
+        if (lastCheck != null && now - lastCheck < revisionCheckInterval.toNanos()) {
+            return false;
+        }
+        revisionChecks.put(key, now);
+        Optional<Long> revision = revision(chain(key));
+        if (revision.isEmpty()) {
+            throw languageRemoved(key);
+        }
+        return revision.get() != snapshot.getRevision();
+    }
+
+    /**
+     * Forgets the snapshot of a language that was deleted or renamed, so its old code stops
+     * serving the last export.
+     */
+    private EntityNotFoundException languageRemoved(String key) {
+        snapshots.remove(key);
+        revisionChecks.remove(key);
+        return new EntityNotFoundException("Language not found: " + String.join(", ", chain(key)));
+    }
+
+    /**
+     * @return the revision of a single language or the sum of the revisions of several,
+     *         empty if one of them does not exist
+     */
+    private Optional<Long> revision(List<String> chain) {
+        if (chain.size() == 1) {
+            return languageRepository.findRevisionByCode(chain.get(0));
+        }
+        Map<String, Long> revisions = new HashMap<>();
+        for (LanguageRepository.LanguageRevision language : languageRepository.findAllRevisionInfo()) {
+            revisions.put(language.getCode(), language.getRevision());
+        }
+        long sum = 0;
+        for (String languageCode : chain) {
+            Long revision = revisions.get(languageCode);
+            if (revision == null) {
+                return Optional.empty();
+            }
+            sum += revision;
+        }
+        return Optional.of(sum);
+    }
+
+    private static List<String> chain(String key) {
+        return List.of(key.split(CHAIN_SEPARATOR));
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.translation.service;
 
+import com.translation.cache.LanguageRegistry;
 import com.translation.dto.LanguageDto;
+import com.translation.dto.LanguageResponseDto;
+import com.translation.exception.BadRequestException;
 import com.translation.model.Language;
 import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationBulkRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +26,12 @@ import java.util.List;
 public class LanguageService {
 
     private final LanguageRepository languageRepository;
+    private final TranslationRepository translationRepository;
+    private final TranslationBulkRepository translationBulkRepository;
+    private final TranslationChangeRepository translationChangeRepository;
+    private final TranslationRevisionService translationRevisionService;
+    private final LanguageRegistry languageRegistry;
+    private final CacheManager cacheManager;
 
     @Transactional
     public Language createLanguage(LanguageDto dto) {
@@ -28,9 +42,12 @@ public class LanguageService {
         Language language = new Language();
         language.setCode(dto.getCode().toLowerCase());
         language.setName(dto.getName());
+        language.setFallbackCode(fallbackCode(dto));
 
         log.info("Creating new language: {}", dto.getCode());
-        return languageRepository.save(language);
+        Language saved = languageRepository.save(language);
+        languageRegistry.languagesChanged();
+        return saved;
     }
 
     @Transactional
@@ -42,34 +59,92 @@ public class LanguageService {
             throw new EntityExistsException("Language already exists with code: " + dto.getCode());
         }
 
+        String previousCode = language.getCode();
         language.setCode(dto.getCode().toLowerCase());
         language.setName(dto.getName());
+        language.setFallbackCode(fallbackCode(dto));
 
         log.info("Updating language: {}", code);
-        return languageRepository.save(language);
+        Language saved = languageRepository.save(language);
+        boolean renamed = !previousCode.equals(saved.getCode());
+        if (renamed) {
+            // Languages configured to fall back to this one would otherwise skip it
+            int referencing = languageRepository.renameFallbackCode(previousCode, saved.getCode());
+            log.info("Renamed language {} to {}, updated the fallback of {} languages",
+                    previousCode, saved.getCode(), referencing);
+        }
+        languageRegistry.languagesChanged();
+        if (renamed) {
+            evictCaches();
+        }
+        return saved;
     }
 
-    @Transactional(readOnly = true)
-    public Language getLanguage(String code) {
-        return languageRepository.findByCode(code)
-                .orElseThrow(() -> new EntityNotFoundException("Language not found: " + code));
+    /**
+     * Creates a language holding a copy of every translation and tag of another, such as
+     * {@code en-gb} seeded from {@code en}. The copy is made with set-based SQL and counts
+     * as a single revision of the new language, without change log entries.
+     */
+    @Transactional
+    public LanguageResponseDto cloneLanguage(String sourceCode, LanguageDto dto) {
+        long sourceId = languageRegistry.require(sourceCode).id();
+        Language language = createLanguage(dto);
+        // The copy runs over JDBC and needs the language row to exist
+        languageRepository.flush();
+
+        long copied = translationBulkRepository.copyTranslations(sourceId, language.getId());
+        translationRevisionService.recordUnloggedChanges(language.getId());
+        log.info("Cloned {} translations from language {} into {}", copied, sourceCode, language.getCode());
+        return getLanguage(language.getCode());
     }
 
-    @Transactional(readOnly = true)
-    public List<Language> getAllLanguages() {
-        return languageRepository.findAll();
+    public LanguageResponseDto getLanguage(String code) {
+        return LanguageResponseDto.from(languageRegistry.require(code));
+    }
+
+    public List<LanguageResponseDto> getAllLanguages() {
+        return languageRegistry.all().stream()
+                .map(LanguageResponseDto::from)
+                .toList();
     }
 
     @Transactional
     public void deleteLanguage(String code) {
-        Language language = languageRepository.findByCode(code)
-                .orElseThrow(() -> new EntityNotFoundException("Language not found: " + code));
+        long languageId = languageRegistry.require(code).id();
 
-        if (!language.getTranslations().isEmpty()) {
+        if (translationRepository.existsByLanguageId(languageId)) {
             throw new IllegalStateException("Cannot delete language that has translations");
         }
 
         log.info("Deleting language: {}", code);
-        languageRepository.delete(language);
+        translationChangeRepository.deleteByLanguageId(languageId);
+        languageRepository.deleteLanguageById(languageId);
+        languageRegistry.languagesChanged();
+        evictCaches();
+    }
+
+    /**
+     * @throws BadRequestException if the fallback is the language itself or does not exist
+     */
+    private String fallbackCode(LanguageDto dto) {
+        if (dto.getFallback() == null) {
+            return null;
+        }
+        String fallback = dto.getFallback().toLowerCase();
+        if (fallback.equals(dto.getCode().toLowerCase())) {
+            throw new BadRequestException("A language cannot fall back to itself");
+        }
+        if (languageRegistry.find(fallback).isEmpty()) {
+            throw new BadRequestException("Fallback language not found: " + dto.getFallback());
+        }
+        return fallback;
+    }
+
+    private void evictCaches() {
+        // Translation entries are keyed by key and language code and cannot be evicted per language
+        Cache translations = cacheManager.getCache("translations");
+        if (translations != null) {
+            translations.clear();
+        }
     }
 }
@@ -0,0 +1,219 @@
+package com.translation.service;
+
+import com.translation.cache.LanguageRegistry;
+import com.translation.config.DatabasePlatform;
+import com.translation.dto.NamespaceDto;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.model.TranslationChange;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationJdbcRepository;
+import com.translation.search.KeyTrie;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lists and counts keys below a namespace, a dot-separated key prefix such as
+ * {@code error.form}.
+ * <p>
+ * Answers come from a {@link KeyTrie} per language. Local writes are applied right after
+ * commit; a trie is checked against the language revision at most once per
+ * {@code revision-check-interval} and catches up on writes from other nodes by replaying
+ * the change log, or by reloading the keys once the log has been compacted. With the
+ * trie disabled the same answers are computed with prefix queries.
+ */
+@Slf4j
+@Service
+public class NamespaceService implements SmartInitializingSingleton {
+
+    private static final String KEY_PATTERN_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_translation_key_pattern " +
+            "ON translations (language_id, translation_key text_pattern_ops)";
+
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final LanguageRepository languageRepository;
+    private final LanguageRegistry languageRegistry;
+    private final TranslationChangeRepository translationChangeRepository;
+    private final DatabasePlatform databasePlatform;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean trieEnabled;
+    private final Duration revisionCheckInterval;
+
+    private final Map<String, LanguageKeys> tries = new ConcurrentHashMap<>();
+
+    public NamespaceService(TranslationJdbcRepository translationJdbcRepository,
+                            LanguageRepository languageRepository,
+                            LanguageRegistry languageRegistry,
+                            TranslationChangeRepository translationChangeRepository,
+                            DatabasePlatform databasePlatform,
+                            JdbcTemplate jdbcTemplate,
+                            @Value("${translation.namespace.trie.enabled:true}") boolean trieEnabled,
+                            @Value("${translation.namespace.trie.revision-check-interval:1s}") Duration revisionCheckInterval) {
+        this.translationJdbcRepository = translationJdbcRepository;
+        this.languageRepository = languageRepository;
+        this.languageRegistry = languageRegistry;
+        this.translationChangeRepository = translationChangeRepository;
+        this.databasePlatform = databasePlatform;
+        this.jdbcTemplate = jdbcTemplate;
+        this.trieEnabled = trieEnabled;
+        this.revisionCheckInterval = revisionCheckInterval;
+    }
+
+    /**
+     * Creates the prefix index once the schema exists. The default btree index only
+     * serves {@code LIKE 'prefix%'} under the C collation.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!databasePlatform.isPostgres()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute(KEY_PATTERN_INDEX);
+        } catch (DataAccessException e) {
+            log.warn("Could not create key prefix index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param prefix namespace without a trailing dot; empty for the top level
+     * @throws EntityNotFoundException if the language does not exist
+     */
+    public NamespaceDto getNamespace(String languageCode, String prefix) {
+        String namespace = normalize(prefix);
+        if (trieEnabled) {
+            KeyTrie trie = currentTrie(languageCode);
+            return NamespaceDto.builder()
+                    .languageCode(languageCode)
+                    .prefix(namespace)
+                    .keyCount(trie.count(namespace))
+                    .children(toDto(trie.children(namespace)))
+                    .build();
+        }
+        LanguageRegistry.Entry language = languageRegistry.find(languageCode)
+                .orElseThrow(() -> new EntityNotFoundException("Language not found"));
+        // Without the trie, collect the children from the keys below the namespace
+        String keyPrefix = namespace.isEmpty() ? "" : namespace + ".";
+        // Per child: keys strictly below it, and 1 if the child is a key itself
+        Map<String, long[]> counts = new TreeMap<>();
+        long[] total = new long[1];
+        translationJdbcRepository.streamKeys(language.id(), keyPrefix, key -> {
+            String rest = key.substring(keyPrefix.length());
+            int separator = rest.indexOf('.');
+            long[] count = counts.computeIfAbsent(separator < 0 ? rest : rest.substring(0, separator), n -> new long[2]);
+            count[separator < 0 ? 1 : 0]++;
+            total[0]++;
+        });
+        List<NamespaceDto.Child> children = new ArrayList<>(counts.size());
+        counts.forEach((name, count) -> children.add(new NamespaceDto.Child(name, count[0], count[1] > 0)));
+        return NamespaceDto.builder()
+                .languageCode(languageCode)
+                .prefix(namespace)
+                .keyCount(total[0])
+                .children(children)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        LanguageKeys languageKeys = tries.get(event.languageCode());
+        if (languageKeys == null) {
+            return;
+        }
+        // Replaying these again from the change log is harmless: adds and removes are idempotent
+        event.changes().forEach((key, type) -> {
+            if (type == TranslationChangedEvent.ChangeType.UPSERTED) {
+                languageKeys.trie.add(key);
+            } else {
+                languageKeys.trie.remove(key);
+            }
+        });
+    }
+
+    private KeyTrie currentTrie(String languageCode) {
+        LanguageKeys languageKeys = tries.get(languageCode);
+        long now = System.nanoTime();
+        if (languageKeys != null && now - languageKeys.checkedAt < revisionCheckInterval.toNanos()) {
+            return languageKeys.trie;
+        }
+        LanguageRepository.LanguageRevision language = languageRepository.findRevisionInfoByCode(languageCode)
+                .orElseThrow(() -> {
+                    tries.remove(languageCode);
+                    return new EntityNotFoundException("Language not found");
+                });
+        synchronized (this) {
+            languageKeys = tries.get(languageCode);
+            if (languageKeys == null || languageKeys.languageId != language.getId()
+                    || languageKeys.revision < language.getCompactedRevision()) {
+                // New or recreated language, or the changes since the last check are no longer logged
+                languageKeys = load(language);
+            } else if (languageKeys.revision < language.getRevision()) {
+                for (TranslationChange change : translationChangeRepository.findChanges(
+                        language.getId(), languageKeys.revision, language.getRevision())) {
+                    if (change.getType() == TranslationChange.Type.UPSERT) {
+                        languageKeys.trie.add(change.getTranslationKey());
+                    } else {
+                        languageKeys.trie.remove(change.getTranslationKey());
+                    }
+                }
+                languageKeys.revision = language.getRevision();
+            }
+            languageKeys.checkedAt = now;
+            return languageKeys.trie;
+        }
+    }
+
+    private LanguageKeys load(LanguageRepository.LanguageRevision language) {
+        // Revision first: writes committed during the load are replayed on the next check
+        KeyTrie trie = new KeyTrie();
+        translationJdbcRepository.streamKeys(language.getId(), trie::add);
+        LanguageKeys languageKeys = new LanguageKeys(language.getId(), trie, language.getRevision());
+        tries.put(language.getCode(), languageKeys);
+        log.debug("Loaded {} keys of language {} into the key trie", trie.size(), language.getCode());
+        return languageKeys;
+    }
+
+    private static List<NamespaceDto.Child> toDto(List<KeyTrie.Child> children) {
+        List<NamespaceDto.Child> result = new ArrayList<>(children.size());
+        for (KeyTrie.Child child : children) {
+            result.add(new NamespaceDto.Child(child.name(), child.keyCount(), child.key()));
+        }
+        return result;
+    }
+
+    private static String normalize(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        String namespace = prefix.trim();
+        return namespace.endsWith(".") ? namespace.substring(0, namespace.length() - 1) : namespace;
+    }
+
+    private static final class LanguageKeys {
+
+        private final long languageId;
+        private final KeyTrie trie;
+        private volatile long revision;
+        private volatile long checkedAt;
+
+        LanguageKeys(long languageId, KeyTrie trie, long revision) {
+            this.languageId = languageId;
+            this.trie = trie;
+            this.revision = revision;
+            this.checkedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.translation.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes dotted translation keys as a nested JSON object, one entry at a time.
+ * <p>
+ * Entries must arrive sorted by key in binary order, which keeps all keys sharing a
+ * prefix contiguous. Only the path of currently open objects and the field names
+ * written in them are kept in memory, so the output can be arbitrarily large.
+ */
+@Slf4j
+public class NestedJsonWriter {
+
+    private final JsonGenerator generator;
+    private final List<String> openPath = new ArrayList<>();
+    private final List<Set<String>> fieldNames = new ArrayList<>();
+
+    public NestedJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    public void writeStart() throws IOException {
+        generator.writeStartObject();
+        fieldNames.add(new HashSet<>());
+    }
+
+    public void write(String key, String value) throws IOException {
+        String[] keyParts = key.split("\\.");
+        int depth = keyParts.length - 1;
+
+        int common = 0;
+        while (common < openPath.size() && common < depth && openPath.get(common).equals(keyParts[common])) {
+            common++;
+        }
+        while (openPath.size() > common) {
+            closeObject();
+        }
+
+        for (int i = common; i <= depth; i++) {
+            // In binary order a leaf, a sibling such as b-x and a sub-tree named b can
+            // arrive in that order, so the name is checked against every written sibling
+            if (!fieldNames.get(i).add(keyParts[i])) {
+                // A leaf and a sub-tree share the same name; keep whichever came first
+                log.warn("Skipping translation key '{}' conflicting with an existing entry", key);
+                return;
+            }
+            if (i < depth) {
+                generator.writeObjectFieldStart(keyParts[i]);
+                openPath.add(keyParts[i]);
+                fieldNames.add(new HashSet<>());
+            }
+        }
+        generator.writeStringField(keyParts[depth], value);
+    }
+
+    public void writeEnd() throws IOException {
+        while (!openPath.isEmpty()) {
+            closeObject();
+        }
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private void closeObject() throws IOException {
+        generator.writeEndObject();
+        openPath.remove(openPath.size() - 1);
+        fieldNames.remove(fieldNames.size() - 1);
+    }
+}
@@ -0,0 +1,212 @@
+package com.translation.service;
+
+import com.translation.dto.TagQueryResultDto;
+import com.translation.dto.TranslationResponseDto;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.exception.BadRequestException;
+import com.translation.model.Translation;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationJdbcRepository;
+import com.translation.repository.TranslationRepository;
+import com.translation.search.TagExpression;
+import com.translation.search.TagIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filters translations by boolean tag expressions using an in-memory {@link TagIndex}.
+ * <p>
+ * The index is loaded on the first query. Writes on this node are applied right after
+ * commit; writes on other nodes are replayed from the change log when the language
+ * revisions are next checked, at most once per {@code revision-check-interval}. Tag-only
+ * changes are not in the change log, so tags edited on other nodes show up after the
+ * next {@code rebuild-interval}.
+ */
+@Slf4j
+@Service
+public class TagIndexService {
+
+    private static final int KEY_BATCH_SIZE = 500;
+
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final TranslationRepository translationRepository;
+    private final LanguageRepository languageRepository;
+    private final TranslationChangeRepository translationChangeRepository;
+    private final Duration revisionCheckInterval;
+
+    private volatile TagIndex index = new TagIndex();
+    private final Map<String, IndexedLanguage> indexedRevisions = new ConcurrentHashMap<>();
+    private final Object syncLock = new Object();
+    private volatile long checkedAt;
+    private volatile boolean loaded;
+
+    public TagIndexService(TranslationJdbcRepository translationJdbcRepository,
+                           TranslationRepository translationRepository,
+                           LanguageRepository languageRepository,
+                           TranslationChangeRepository translationChangeRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${translation.tags.index.revision-check-interval:1s}") Duration revisionCheckInterval) {
+        this.translationJdbcRepository = translationJdbcRepository;
+        this.translationRepository = translationRepository;
+        this.languageRepository = languageRepository;
+        this.translationChangeRepository = translationChangeRepository;
+        this.revisionCheckInterval = revisionCheckInterval;
+        Gauge.builder("translation.tags.index.memory", this, service -> service.index.estimatedBytes())
+                .description("Estimated heap used by the tag bitmap index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param expression    tag expression such as {@code mobile AND NOT desktop}; blank
+     *                      matches every translation
+     * @param languageCodes languages to search, or empty for all of them
+     * @throws BadRequestException if the expression is malformed
+     */
+    @Transactional(readOnly = true)
+    public TagQueryResultDto query(String expression, Set<String> languageCodes, int page, int size, boolean facets) {
+        TagExpression parsed = expression == null || expression.isBlank() ? null : TagExpression.parse(expression);
+        TagIndex current = currentIndex();
+        TagIndex.Result result = current.query(parsed, languageCodes != null ? languageCodes : Set.of(),
+                (long) page * size, size, facets);
+        List<Translation> translations = translationRepository.findAllWithTagsInOrder(result.ids());
+        return TagQueryResultDto.builder()
+                .content(translations.stream().map(TranslationResponseDto::from).toList())
+                .page(page)
+                .size(size)
+                .totalElements(result.total())
+                .facets(result.facets())
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        IndexedLanguage indexed = indexedRevisions.get(event.languageCode());
+        if (indexed == null) {
+            return;
+        }
+        try {
+            reload(index, indexed.languageId(), event.languageCode(), event.changes().keySet());
+        } catch (RuntimeException e) {
+            // The next revision check replays the change from the change log
+            log.warn("Could not update tag index for language {}: {}", event.languageCode(), e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database, picking up tag changes made on other nodes.
+     */
+    @Scheduled(initialDelayString = "${translation.tags.index.rebuild-interval:PT10M}",
+               fixedDelayString = "${translation.tags.index.rebuild-interval:PT10M}")
+    public void rebuild() {
+        if (!loaded) {
+            return;
+        }
+        synchronized (syncLock) {
+            long start = System.nanoTime();
+            TagIndex fresh = new TagIndex();
+            Map<String, IndexedLanguage> revisions = new HashMap<>();
+            // Read revisions first: changes committed during the load are replayed by the next check
+            for (LanguageRepository.LanguageRevision language : languageRepository.findAllRevisionInfo()) {
+                revisions.put(language.getCode(), new IndexedLanguage(language.getId(), language.getRevision()));
+            }
+            revisions.forEach((languageCode, indexed) -> load(fresh, indexed.languageId(), languageCode));
+            index = fresh;
+            indexedRevisions.clear();
+            indexedRevisions.putAll(revisions);
+            log.info("Built tag index with {} translations (~{} KB) in {} ms", fresh.size(),
+                    fresh.estimatedBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    private TagIndex currentIndex() {
+        long now = System.nanoTime();
+        if (loaded && now - checkedAt < revisionCheckInterval.toNanos()) {
+            return index;
+        }
+        synchronized (syncLock) {
+            TagIndex current = index;
+            Set<String> languageCodes = new HashSet<>();
+            for (LanguageRepository.LanguageRevision language : languageRepository.findAllRevisionInfo()) {
+                languageCodes.add(language.getCode());
+                IndexedLanguage indexed = indexedRevisions.get(language.getCode());
+                if (indexed != null && indexed.languageId() == language.getId()
+                        && indexed.revision() == language.getRevision()) {
+                    continue;
+                }
+                if (indexed == null || indexed.languageId() != language.getId()
+                        || indexed.revision() < language.getCompactedRevision()) {
+                    // New or recreated language, or the changes since the last check are no longer logged
+                    current.removeLanguage(language.getCode());
+                    load(current, language.getId(), language.getCode());
+                } else {
+                    Set<String> keys = new HashSet<>();
+                    translationChangeRepository.findChanges(language.getId(), indexed.revision(), language.getRevision())
+                            .forEach(change -> keys.add(change.getTranslationKey()));
+                    reload(current, language.getId(), language.getCode(), keys);
+                }
+                indexedRevisions.put(language.getCode(), new IndexedLanguage(language.getId(), language.getRevision()));
+            }
+            for (String languageCode : Set.copyOf(indexedRevisions.keySet())) {
+                if (!languageCodes.contains(languageCode)) {
+                    current.removeLanguage(languageCode);
+                    indexedRevisions.remove(languageCode);
+                }
+            }
+            checkedAt = now;
+            loaded = true;
+            return current;
+        }
+    }
+
+    private void load(TagIndex target, long languageId, String languageCode) {
+        translationJdbcRepository.streamTaggedKeys(languageId, null,
+                translation -> target.put(languageCode, translation.key(), translation.id(), translation.tags()));
+    }
+
+    private void reload(TagIndex target, long languageId, String languageCode, Collection<String> keys) {
+        List<String> batch = new ArrayList<>(Math.min(keys.size(), KEY_BATCH_SIZE));
+        for (String key : keys) {
+            batch.add(key);
+            if (batch.size() == KEY_BATCH_SIZE) {
+                reloadBatch(target, languageId, languageCode, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            reloadBatch(target, languageId, languageCode, batch);
+        }
+    }
+
+    private void reloadBatch(TagIndex target, long languageId, String languageCode, List<String> keys) {
+        Set<String> missing = new HashSet<>(keys);
+        translationJdbcRepository.streamTaggedKeys(languageId, keys, translation -> {
+            missing.remove(translation.key());
+            target.put(languageCode, translation.key(), translation.id(), translation.tags());
+        });
+        for (String key : missing) {
+            target.remove(languageCode, key);
+        }
+    }
+
+    private record IndexedLanguage(long languageId, long revision) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.translation.service;
+
+import com.translation.cache.LanguageRegistry;
+import com.translation.dto.BulkTranslationResultDto;
+import com.translation.dto.BulkTranslationResultDto.Item;
+import com.translation.dto.BulkTranslationResultDto.Status;
+import com.translation.dto.TranslationDto;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.repository.TranslationBulkRepository;
+import com.translation.repository.TranslationJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates and updates many translations in one transaction.
+ * <p>
+ * Languages and tags are resolved once per request, rows are upserted in JDBC batches of
+ * {@code translation.bulk.batch-size}, and every language gets a single revision bump,
+ * change event and cache eviction instead of one per translation.
+ */
+@Slf4j
+@Service
+public class TranslationBulkService {
+
+    /**
+     * Above this many changed keys the per-key cache is cleared rather than evicted key by key.
+     */
+    private static final int EVICT_ALL_THRESHOLD = 1000;
+
+    private final LanguageRegistry languageRegistry;
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final TranslationBulkRepository translationBulkRepository;
+    private final TranslationRevisionService translationRevisionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final int batchSize;
+
+    public TranslationBulkService(LanguageRegistry languageRegistry,
+                                  TranslationJdbcRepository translationJdbcRepository,
+                                  TranslationBulkRepository translationBulkRepository,
+                                  TranslationRevisionService translationRevisionService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  CacheManager cacheManager,
+                                  @Value("${translation.bulk.batch-size:500}") int batchSize) {
+        this.languageRegistry = languageRegistry;
+        this.translationJdbcRepository = translationJdbcRepository;
+        this.translationBulkRepository = translationBulkRepository;
+        this.translationRevisionService = translationRevisionService;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates missing translations and updates existing ones. Tags replace the current
+     * ones when given and are left alone when {@code null}, as with single updates.
+     * Translations of unknown languages and repeated key and language pairs fail
+     * individually without affecting the rest.
+     */
+    @Transactional
+    public BulkTranslationResultDto upsertTranslations(List<TranslationDto> translations) {
+        long start = System.nanoTime();
+        Map<String, LanguageRegistry.Entry> languages = new HashMap<>();
+        for (TranslationDto dto : translations) {
+            languageRegistry.find(dto.getLanguageCode()).ifPresent(language -> languages.put(language.code(), language));
+        }
+
+        Item[] items = new Item[translations.size()];
+        // Position in the request per key, grouped by language
+        Map<String, Map<String, Integer>> positions = new LinkedHashMap<>();
+        Set<String> tagNames = new HashSet<>();
+        for (int i = 0; i < translations.size(); i++) {
+            TranslationDto dto = translations.get(i);
+            if (!languages.containsKey(dto.getLanguageCode())) {
+                items[i] = failed(dto, "Language not found: " + dto.getLanguageCode());
+            } else if (positions.computeIfAbsent(dto.getLanguageCode(), code -> new LinkedHashMap<>())
+                    .putIfAbsent(dto.getKey(), i) != null) {
+                items[i] = failed(dto, "Duplicate of an earlier translation in this request");
+            } else if (dto.getTags() != null) {
+                tagNames.addAll(dto.getTags());
+            }
+        }
+        translationBulkRepository.createMissingTags(tagNames);
+
+        Map<String, Set<String>> changedKeys = new LinkedHashMap<>();
+        positions.forEach((languageCode, keys) -> {
+            Set<String> changed = upsertLanguage(languages.get(languageCode), keys, translations, items);
+            if (!changed.isEmpty()) {
+                changedKeys.put(languageCode, changed);
+            }
+        });
+        evictCaches(changedKeys);
+
+        BulkTranslationResultDto result = summarize(Arrays.asList(items));
+        log.info("Bulk upsert of {} translations: {} created, {} updated, {} unchanged, {} failed in {} ms",
+                translations.size(), result.getCreated(), result.getUpdated(), result.getUnchanged(),
+                result.getFailed(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    /**
+     * @param positions request position per key of this language
+     * @return keys that were created or updated
+     */
+    private Set<String> upsertLanguage(LanguageRegistry.Entry language, Map<String, Integer> positions,
+                                       List<TranslationDto> translations, Item[] items) {
+        Map<String, String> contentChanges = new LinkedHashMap<>();
+        List<String> keys = new ArrayList<>(positions.keySet());
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            List<String> batch = keys.subList(from, Math.min(from + batchSize, keys.size()));
+            Map<String, TranslationJdbcRepository.TaggedKey> existing = new HashMap<>();
+            translationJdbcRepository.streamTaggedContents(language.id(), batch,
+                    translation -> existing.put(translation.key(), translation));
+
+            List<TranslationDto> inserts = new ArrayList<>();
+            List<TranslationDto> updates = new ArrayList<>();
+            List<TranslationBulkRepository.TagLink> addedLinks = new ArrayList<>();
+            List<TranslationBulkRepository.TagLink> removedLinks = new ArrayList<>();
+            for (String key : batch) {
+                int position = positions.get(key);
+                TranslationDto dto = translations.get(position);
+                Set<String> tags = dto.getTags() != null ? dto.getTags() : Set.of();
+                TranslationJdbcRepository.TaggedKey stored = existing.get(key);
+                if (stored == null) {
+                    inserts.add(dto);
+                    tags.forEach(tag -> addedLinks.add(new TranslationBulkRepository.TagLink(key, tag)));
+                    contentChanges.put(key, dto.getContent());
+                    items[position] = new Item(key, dto.getLanguageCode(), Status.CREATED, null);
+                    continue;
+                }
+                boolean contentChanged = !dto.getContent().equals(stored.content());
+                boolean tagsChanged = dto.getTags() != null && !tags.equals(new HashSet<>(stored.tags()));
+                if (!contentChanged && !tagsChanged) {
+                    items[position] = new Item(key, dto.getLanguageCode(), Status.UNCHANGED, null);
+                    continue;
+                }
+                updates.add(dto);
+                if (tagsChanged) {
+                    for (String tag : tags) {
+                        if (!stored.tags().contains(tag)) {
+                            addedLinks.add(new TranslationBulkRepository.TagLink(key, tag));
+                        }
+                    }
+                    for (String tag : stored.tags()) {
+                        if (!tags.contains(tag)) {
+                            removedLinks.add(new TranslationBulkRepository.TagLink(key, tag));
+                        }
+                    }
+                }
+                if (contentChanged) {
+                    contentChanges.put(key, dto.getContent());
+                }
+                items[position] = new Item(key, dto.getLanguageCode(), Status.UPDATED, null);
+            }
+
+            // Updated rows get an id as well, in case another writer deleted them meanwhile
+            List<TranslationDto> upserts = new ArrayList<>(inserts);
+            upserts.addAll(updates);
+            long[] ids = translationBulkRepository.reserveIds("translations_seq", upserts.size());
+            List<TranslationBulkRepository.Row> rows = new ArrayList<>(upserts.size());
+            for (int i = 0; i < upserts.size(); i++) {
+                rows.add(new TranslationBulkRepository.Row(ids[i], upserts.get(i).getKey(), upserts.get(i).getContent()));
+            }
+            translationBulkRepository.upsertTranslations(language.id(), rows);
+            translationBulkRepository.removeTagLinks(language.id(), removedLinks);
+            translationBulkRepository.addTagLinks(language.id(), addedLinks);
+        }
+
+        Set<String> changed = new HashSet<>();
+        Map<String, TranslationChangedEvent.ChangeType> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> position : positions.entrySet()) {
+            Status status = items[position.getValue()].status();
+            if (status == Status.CREATED || status == Status.UPDATED) {
+                changed.add(position.getKey());
+                changes.put(position.getKey(), TranslationChangedEvent.ChangeType.UPSERTED);
+            }
+        }
+        // Tag-only changes are not logged, as with single updates
+        long revision = translationRevisionService.recordChanges(language.id(), contentChanges);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new TranslationChangedEvent(language.code(), changes,
+                    revision - contentChanges.size(), revision));
+        }
+        return changed;
+    }
+
+    private void evictCaches(Map<String, Set<String>> changedKeys) {
+        Cache translations = cacheManager.getCache("translations");
+        if (translations != null) {
+            int total = changedKeys.values().stream().mapToInt(Set::size).sum();
+            if (total > EVICT_ALL_THRESHOLD) {
+                translations.clear();
+            } else {
+                changedKeys.forEach((languageCode, keys) ->
+                        keys.forEach(key -> translations.evict(key + "_" + languageCode)));
+            }
+        }
+    }
+
+    private static Item failed(TranslationDto dto, String error) {
+        return new Item(dto.getKey(), dto.getLanguageCode(), Status.FAILED, error);
+    }
+
+    private static BulkTranslationResultDto summarize(List<Item> items) {
+        int[] counts = new int[Status.values().length];
+        for (Item item : items) {
+            counts[item.status().ordinal()]++;
+        }
+        return BulkTranslationResultDto.builder()
+                .created(counts[Status.CREATED.ordinal()])
+                .updated(counts[Status.UPDATED.ordinal()])
+                .unchanged(counts[Status.UNCHANGED.ordinal()])
+                .failed(counts[Status.FAILED.ordinal()])
+                .items(items)
+                .build();
+    }
+}
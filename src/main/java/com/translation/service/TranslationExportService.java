@@ -0,0 +1,100 @@
+package com.translation.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.cache.LanguageRegistry;
+import com.translation.repository.TranslationJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranslationExportService {
+
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final LanguageRegistry languageRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes the nested JSON export of a language directly to the given stream while rows
+     * are read from the database, so memory use does not depend on the language size.
+     */
+    @Transactional(readOnly = true)
+    public void writeTranslations(String languageCode, OutputStream out) throws IOException {
+        writeTranslations(languageCode, "", out);
+        log.debug("Streamed export for language: {}", languageCode);
+    }
+
+    /**
+     * Writes the keys below a namespace as nested JSON, with the namespace itself left out
+     * of the keys, so {@code error.form.required} is written as {@code required}.
+     */
+    @Transactional(readOnly = true)
+    public void writeNamespace(String languageCode, String namespace, OutputStream out) throws IOException {
+        writeTranslations(languageCode, namespace.isEmpty() ? "" : namespace + ".", out);
+        log.debug("Streamed export of namespace {} for language: {}", namespace, languageCode);
+    }
+
+    /**
+     * Writes the merged export of several languages: every key with its content in the
+     * first of the languages that has it. Unknown languages are left out.
+     */
+    @Transactional(readOnly = true)
+    public void writeMergedTranslations(List<String> languageCodes, OutputStream out) throws IOException {
+        List<Long> languageIds = new ArrayList<>(languageCodes.size());
+        for (String languageCode : languageCodes) {
+            languageRegistry.find(languageCode).ifPresent(language -> languageIds.add(language.id()));
+        }
+        write(out, "", rows -> {
+            if (!languageIds.isEmpty()) {
+                translationJdbcRepository.streamMergedContents(languageIds, rows);
+            }
+        });
+        log.debug("Streamed merged export for languages: {}", languageCodes);
+    }
+
+    private void writeTranslations(String languageCode, String keyPrefix, OutputStream out) throws IOException {
+        LanguageRegistry.Entry language = languageRegistry.find(languageCode).orElse(null);
+        write(out, keyPrefix, rows -> {
+            if (language != null) {
+                translationJdbcRepository.streamContents(language.id(), keyPrefix, rows);
+            }
+        });
+    }
+
+    /**
+     * @param source streams key/content pairs in key order to the consumer it is given
+     */
+    private void write(OutputStream out, String keyPrefix,
+                       Consumer<BiConsumer<String, String>> source) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            NestedJsonWriter writer = new NestedJsonWriter(generator);
+            writer.writeStart();
+            try {
+                source.accept((key, content) -> {
+                    try {
+                        writer.write(key.substring(keyPrefix.length()), content);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.writeEnd();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.translation.service;
+
+import com.translation.cache.LanguageRegistry;
+import com.translation.dto.BulkTranslationResultDto;
+import com.translation.dto.ImportJobDto;
+import com.translation.dto.TranslationDto;
+import com.translation.importer.ImportFormat;
+import com.translation.repository.TranslationJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Imports translation files in the background.
+ * <p>
+ * An upload is spooled to a temporary file and parsed as a stream. Parsed entries are
+ * grouped into batches of {@code batch-size} that go through a queue of
+ * {@code queue-capacity} batches to a writer, which upserts each batch in its own
+ * transaction; when the writer falls behind, parsing waits. Batches written before a
+ * failure stay written. A dry run compares each batch with the stored translations
+ * instead of writing it; a key repeated in a later batch is compared with the content
+ * its earlier entry would have written, so the counts match those of the real import.
+ */
+@Slf4j
+@Service
+public class TranslationImportService {
+
+    // Compared by identity, so it can never be mistaken for a batch
+    private static final Map<String, String> END_OF_FILE = new HashMap<>();
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final TranslationBulkService translationBulkService;
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final LanguageRegistry languageRegistry;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxDiffEntries;
+    private final Duration retention;
+    private final ExecutorService parsers;
+    private final ExecutorService writers;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public TranslationImportService(TranslationBulkService translationBulkService,
+                                    TranslationJdbcRepository translationJdbcRepository,
+                                    LanguageRegistry languageRegistry,
+                                    @Value("${translation.import.batch-size:1000}") int batchSize,
+                                    @Value("${translation.import.queue-capacity:4}") int queueCapacity,
+                                    @Value("${translation.import.concurrency:2}") int concurrency,
+                                    @Value("${translation.import.max-diff-entries:1000}") int maxDiffEntries,
+                                    @Value("${translation.import.retention:PT1H}") Duration retention) {
+        this.translationBulkService = translationBulkService;
+        this.translationJdbcRepository = translationJdbcRepository;
+        this.languageRegistry = languageRegistry;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxDiffEntries = maxDiffEntries;
+        this.retention = retention;
+        this.parsers = Executors.newFixedThreadPool(concurrency, new DaemonThreadFactory("translation-import-"));
+        this.writers = Executors.newFixedThreadPool(concurrency, new DaemonThreadFactory("translation-import-writer-"));
+    }
+
+    /**
+     * Spools the file and queues its import.
+     *
+     * @throws EntityNotFoundException if the language does not exist
+     */
+    public ImportJobDto startImport(String languageCode, ImportFormat format, boolean dryRun,
+                                    InputStream file) throws IOException {
+        long languageId = languageRegistry.require(languageCode).id();
+        Path spooled = Files.createTempFile("translation-import-", "." + format.name().toLowerCase(Locale.ROOT));
+        try {
+            Files.copy(file, spooled, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(spooled);
+            throw e;
+        }
+        Job job = new Job(UUID.randomUUID().toString(), languageId, languageCode, format, dryRun, Files.size(spooled));
+        jobs.put(job.id, job);
+        parsers.submit(() -> run(job, spooled));
+        log.info("Queued {} import {} of language {} ({} bytes{})", format, job.id, languageCode, job.bytesTotal,
+                dryRun ? ", dry run" : "");
+        return job.toDto();
+    }
+
+    /**
+     * @throws EntityNotFoundException if there is no such import, or it finished more than
+     *                                 {@code retention} ago
+     */
+    public ImportJobDto getImport(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new EntityNotFoundException("Import not found: " + id);
+        }
+        return job.toDto();
+    }
+
+    @Scheduled(fixedDelayString = "${translation.import.retention:PT1H}")
+    public void removeFinishedImports() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        parsers.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    private void run(Job job, Path file) {
+        job.status = ImportJobDto.Status.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        BlockingQueue<Map<String, String>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Future<Void> writer = writers.submit(() -> {
+            Map<String, String> batch;
+            while ((batch = queue.take()) != END_OF_FILE) {
+                write(job, batch);
+            }
+            return null;
+        });
+        try (InputStream in = new CountingInputStream(Files.newInputStream(file), job.bytesRead)) {
+            Batcher batcher = new Batcher(job, queue, writer);
+            job.format.parser().parse(in, batcher);
+            batcher.flush();
+            enqueue(queue, END_OF_FILE, writer);
+            writer.get();
+            job.finish(ImportJobDto.Status.COMPLETED, null);
+            log.info("Finished import {}: {} created, {} updated, {} unchanged, {} skipped, {} failed", job.id,
+                    job.created, job.updated, job.unchanged, job.skipped, job.failed);
+        } catch (Exception e) {
+            writer.cancel(true);
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            job.finish(ImportJobDto.Status.FAILED, cause.getMessage());
+            log.warn("Import {} of language {} failed: {}", job.id, job.languageCode, cause.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete spooled import {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Hands a batch to the writer, waiting while the queue is full.
+     */
+    private static void enqueue(BlockingQueue<Map<String, String>> queue, Map<String, String> batch,
+                                Future<Void> writer) {
+        try {
+            while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                if (writer.isDone()) {
+                    // Let writer.get() report why it stopped
+                    writer.get();
+                    throw new IllegalStateException("Import writer stopped");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void write(Job job, Map<String, String> batch) {
+        if (job.dryRun) {
+            compare(job, batch);
+            return;
+        }
+        List<TranslationDto> translations = new ArrayList<>(batch.size());
+        batch.forEach((key, content) -> {
+            TranslationDto dto = new TranslationDto();
+            dto.setKey(key);
+            dto.setContent(content);
+            dto.setLanguageCode(job.languageCode);
+            translations.add(dto);
+        });
+        BulkTranslationResultDto result = translationBulkService.upsertTranslations(translations);
+        job.created.addAndGet(result.getCreated());
+        job.updated.addAndGet(result.getUpdated());
+        job.unchanged.addAndGet(result.getUnchanged());
+        job.failed.addAndGet(result.getFailed());
+    }
+
+    private void compare(Job job, Map<String, String> batch) {
+        Map<String, String> stored = new HashMap<>();
+        translationJdbcRepository.streamTaggedContents(job.languageId, batch.keySet(),
+                translation -> stored.put(translation.key(), translation.content()));
+        batch.forEach((key, content) -> {
+            // Earlier batches of the file would already have been written by now
+            String written = job.dryRunContents.put(key, content);
+            String previous = written != null ? written : stored.get(key);
+            if (content.equals(previous)) {
+                job.unchanged.incrementAndGet();
+                return;
+            }
+            (previous == null ? job.created : job.updated).incrementAndGet();
+            synchronized (job.changes) {
+                if (job.changes.size() < maxDiffEntries) {
+                    job.changes.add(new ImportJobDto.Change(key, previous, content));
+                }
+            }
+        });
+    }
+
+    /**
+     * Collects parsed entries into batches; later entries of a key replace earlier ones
+     * of the same batch.
+     */
+    private final class Batcher implements BiConsumer<String, String> {
+
+        private final Job job;
+        private final BlockingQueue<Map<String, String>> queue;
+        private final Future<Void> writer;
+        private Map<String, String> batch = new LinkedHashMap<>();
+
+        Batcher(Job job, BlockingQueue<Map<String, String>> queue, Future<Void> writer) {
+            this.job = job;
+            this.queue = queue;
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(String key, String content) {
+            job.entriesRead.incrementAndGet();
+            if (key.isBlank() || key.length() > MAX_KEY_LENGTH || content.isBlank()) {
+                job.skipped.incrementAndGet();
+                return;
+            }
+            batch.put(key, content);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                enqueue(queue, batch, writer);
+                batch = new LinkedHashMap<>();
+            }
+        }
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final long languageId;
+        private final String languageCode;
+        private final ImportFormat format;
+        private final boolean dryRun;
+        private final long bytesTotal;
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong entriesRead = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private final AtomicLong unchanged = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<ImportJobDto.Change> changes = new ArrayList<>();
+        // Content per key of the batches compared so far; only used by the writer thread of a dry run
+        private final Map<String, String> dryRunContents = new HashMap<>();
+        private volatile ImportJobDto.Status status = ImportJobDto.Status.QUEUED;
+        private volatile String error;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id, long languageId, String languageCode, ImportFormat format, boolean dryRun, long bytesTotal) {
+            this.id = id;
+            this.languageId = languageId;
+            this.languageCode = languageCode;
+            this.format = format;
+            this.dryRun = dryRun;
+            this.bytesTotal = bytesTotal;
+        }
+
+        void finish(ImportJobDto.Status status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        ImportJobDto toDto() {
+            List<ImportJobDto.Change> diff;
+            synchronized (changes) {
+                diff = List.copyOf(changes);
+            }
+            return ImportJobDto.builder()
+                    .id(id)
+                    .languageCode(languageCode)
+                    .format(format)
+                    .dryRun(dryRun)
+                    .status(status)
+                    .bytesTotal(bytesTotal)
+                    .bytesRead(bytesRead.get())
+                    .entriesRead(entriesRead.get())
+                    .created(created.get())
+                    .updated(updated.get())
+                    .unchanged(unchanged.get())
+                    .skipped(skipped.get())
+                    .failed(failed.get())
+                    .changes(dryRun ? diff : null)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final AtomicLong count;
+
+        CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count.addAndGet(skipped);
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.translation.service;
+
+import com.translation.cache.LanguageRegistry;
+import com.translation.cache.MicroBatcher;
+import com.translation.model.Translation;
+import com.translation.repository.TranslationRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Coalesces the database loads behind {@link TranslationService#getTranslation}. Cache
+ * misses arriving within {@code translation.lookup.batching.window} of each other are
+ * loaded with one query per language instead of one query per key.
+ */
+@Component
+public class TranslationLoadBatcher {
+
+    private final TranslationRepository translationRepository;
+    private final LanguageRegistry languageRegistry;
+    private final boolean enabled;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService loaders;
+    private final MicroBatcher<LookupKey, Translation> batcher;
+
+    public TranslationLoadBatcher(TranslationRepository translationRepository,
+                                  LanguageRegistry languageRegistry,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${translation.lookup.batching.enabled:true}") boolean enabled,
+                                  @Value("${translation.lookup.batching.window:2ms}") Duration window,
+                                  @Value("${translation.lookup.batching.max-batch-size:100}") int maxBatchSize,
+                                  @Value("${translation.lookup.batching.concurrency:4}") int concurrency) {
+        this.translationRepository = translationRepository;
+        this.languageRegistry = languageRegistry;
+        this.enabled = enabled;
+        this.timer = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("translation-batch-timer-"));
+        this.loaders = Executors.newFixedThreadPool(concurrency, new DaemonThreadFactory("translation-batch-loader-"));
+        this.batcher = new MicroBatcher<>(window, maxBatchSize, this::loadBatch, timer, loaders,
+                DistributionSummary.builder("translation.lookup.batch.size")
+                        .description("Keys loaded per coalesced lookup batch")
+                        .register(meterRegistry),
+                Timer.builder("translation.lookup.batch.wait")
+                        .description("Time a lookup waited for its batch to be dispatched")
+                        .register(meterRegistry));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<Translation> load(String key, String languageCode) {
+        try {
+            return Optional.ofNullable(batcher.load(new LookupKey(languageCode, key)).get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading translation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not load translation", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        loaders.shutdownNow();
+    }
+
+    private Map<LookupKey, Translation> loadBatch(Set<LookupKey> lookups) {
+        Map<String, Set<String>> keysByLanguage = new HashMap<>();
+        for (LookupKey lookup : lookups) {
+            keysByLanguage.computeIfAbsent(lookup.languageCode(), code -> new HashSet<>()).add(lookup.key());
+        }
+        Map<LookupKey, Translation> translations = new HashMap<>();
+        keysByLanguage.forEach((languageCode, keys) -> languageRegistry.find(languageCode).ifPresent(language -> {
+            for (Translation translation : translationRepository.findByKeysAndLanguageId(keys, language.id())) {
+                translations.put(new LookupKey(languageCode, translation.getTranslationKey()), translation);
+            }
+        }));
+        return translations;
+    }
+
+    private record LookupKey(String languageCode, String key) {
+    }
+}
@@ -0,0 +1,318 @@
+package com.translation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.translation.cache.KeyBloomFilter;
+import com.translation.cache.LanguageRegistry;
+import com.translation.dto.BatchTranslationResultDto;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.model.Translation;
+import com.translation.model.TranslationChange;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Single-key lookups that answer misses without reaching the caches or the database.
+ * <p>
+ * A Bloom filter of existing keys per language rejects most unknown keys outright. It is
+ * only trusted while it matches the language revision, which is checked at most once per
+ * {@code revision-check-interval}, so keys created on other nodes are never reported
+ * missing for longer than that. Local writes are added right after commit; writes from
+ * other nodes are caught up on by replaying the change log, or by reloading the keys once
+ * the log has been compacted. Deleted keys stay in the filter until the full rebuild every
+ * {@code rebuild-interval}. Misses that get past the filter are remembered for a short
+ * time in a negative cache.
+ */
+@Slf4j
+@Service
+public class TranslationLookupService {
+
+    private final TranslationService translationService;
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final LanguageRepository languageRepository;
+    private final LanguageRegistry languageRegistry;
+    private final TranslationChangeRepository translationChangeRepository;
+    private final boolean bloomFilterEnabled;
+    private final double falsePositiveRate;
+    private final Duration revisionCheckInterval;
+
+    private final Map<String, LanguageKeys> filters = new ConcurrentHashMap<>();
+    private final Set<String> pendingBuilds = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Boolean> negativeCache;
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "key-filter-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TranslationLookupService(TranslationService translationService,
+                                    TranslationJdbcRepository translationJdbcRepository,
+                                    LanguageRepository languageRepository,
+                                    LanguageRegistry languageRegistry,
+                                    TranslationChangeRepository translationChangeRepository,
+                                    @Value("${translation.lookup.bloom-filter.enabled:true}") boolean bloomFilterEnabled,
+                                    @Value("${translation.lookup.bloom-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                    @Value("${translation.lookup.bloom-filter.revision-check-interval:1s}") Duration revisionCheckInterval,
+                                    @Value("${translation.lookup.negative-cache.ttl:10s}") Duration negativeCacheTtl,
+                                    @Value("${translation.lookup.negative-cache.maximum-size:100000}") long negativeCacheMaximumSize) {
+        this.translationService = translationService;
+        this.translationJdbcRepository = translationJdbcRepository;
+        this.languageRepository = languageRepository;
+        this.languageRegistry = languageRegistry;
+        this.translationChangeRepository = translationChangeRepository;
+        this.bloomFilterEnabled = bloomFilterEnabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revisionCheckInterval = revisionCheckInterval;
+        this.negativeCache = Caffeine.newBuilder()
+                .maximumSize(negativeCacheMaximumSize)
+                .expireAfterWrite(negativeCacheTtl)
+                .build();
+    }
+
+    public Translation getTranslation(String key, String languageCode) {
+        String cacheKey = languageCode + ":" + key;
+        if (isKnownMissing(key, languageCode) || negativeCache.getIfPresent(cacheKey) != null) {
+            throw new MissingTranslationException();
+        }
+        try {
+            return translationService.getTranslation(key, languageCode);
+        } catch (EntityNotFoundException e) {
+            negativeCache.put(cacheKey, Boolean.TRUE);
+            throw e;
+        }
+    }
+
+    /**
+     * Like {@link #getTranslation}, trying the fallback languages of the language in order
+     * when it lacks the key. The returned translation tells which language it was found in.
+     */
+    public Translation getTranslationWithFallback(String key, String languageCode) {
+        List<String> chain = languageRegistry.fallbackChain(languageCode);
+        if (chain.isEmpty()) {
+            return getTranslation(key, languageCode);
+        }
+        EntityNotFoundException miss = null;
+        for (String code : chain) {
+            try {
+                return getTranslation(key, code);
+            } catch (EntityNotFoundException e) {
+                miss = e;
+            }
+        }
+        throw miss;
+    }
+
+    /**
+     * Looks up many keys in several languages at once. Keys ruled out by the filters or the
+     * negative cache are reported missing straight away; the rest are fetched together
+     * through {@link TranslationService#getTranslations}.
+     */
+    public BatchTranslationResultDto getTranslations(Collection<String> keys, Collection<String> languageCodes) {
+        Map<String, Set<String>> candidates = new LinkedHashMap<>();
+        for (String languageCode : languageCodes) {
+            Set<String> languageKeys = new LinkedHashSet<>();
+            for (String key : keys) {
+                if (!isKnownMissing(key, languageCode) && negativeCache.getIfPresent(languageCode + ":" + key) == null) {
+                    languageKeys.add(key);
+                }
+            }
+            candidates.put(languageCode, languageKeys);
+        }
+        Map<String, Map<String, Translation>> found = translationService.getTranslations(candidates);
+
+        Map<String, Map<String, String>> translations = new LinkedHashMap<>();
+        Map<String, Set<String>> missing = new LinkedHashMap<>();
+        for (String languageCode : languageCodes) {
+            Map<String, Translation> languageFound = found.getOrDefault(languageCode, Map.of());
+            Map<String, String> contents = new LinkedHashMap<>();
+            Set<String> languageMissing = new LinkedHashSet<>();
+            for (String key : keys) {
+                Translation translation = languageFound.get(key);
+                if (translation != null) {
+                    contents.put(key, translation.getContent());
+                } else {
+                    languageMissing.add(key);
+                    if (candidates.get(languageCode).contains(key)) {
+                        negativeCache.put(languageCode + ":" + key, Boolean.TRUE);
+                    }
+                }
+            }
+            translations.put(languageCode, contents);
+            missing.put(languageCode, languageMissing);
+        }
+        return BatchTranslationResultDto.builder()
+                .translations(translations)
+                .missing(missing)
+                .build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationChanged(TranslationChangedEvent event) {
+        LanguageKeys languageKeys = filters.get(event.languageCode());
+        event.changes().forEach((key, type) -> {
+            if (type == TranslationChangedEvent.ChangeType.UPSERTED) {
+                if (languageKeys != null) {
+                    languageKeys.filter.put(key);
+                }
+                negativeCache.invalidate(event.languageCode() + ":" + key);
+            }
+        });
+        if (languageKeys != null && event.logged()) {
+            synchronized (languageKeys) {
+                // Only a filter that has every earlier change may move on; others catch up from the log
+                if (languageKeys.revision == event.baseRevision()) {
+                    languageKeys.revision = event.revision();
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the filters of all languages, dropping deleted keys and languages.
+     */
+    @Scheduled(initialDelayString = "${translation.lookup.bloom-filter.initial-delay:PT5S}",
+               fixedDelayString = "${translation.lookup.bloom-filter.rebuild-interval:PT10M}")
+    public void rebuildFilters() {
+        if (!bloomFilterEnabled) {
+            return;
+        }
+        Set<String> languageCodes = Set.copyOf(languageRepository.findAllCodes());
+        filters.keySet().retainAll(languageCodes);
+        for (String languageCode : languageCodes) {
+            try {
+                build(languageCode);
+            } catch (RuntimeException e) {
+                log.error("Failed to build key filter for language {}", languageCode, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    private boolean isKnownMissing(String key, String languageCode) {
+        LanguageKeys languageKeys = filters.get(languageCode);
+        if (languageKeys == null || languageKeys.filter.mightContain(key)) {
+            return false;
+        }
+        // Catching up may have added the key
+        return isCurrent(languageKeys) && !languageKeys.filter.mightContain(key);
+    }
+
+    private boolean isCurrent(LanguageKeys languageKeys) {
+        long now = System.nanoTime();
+        if (now - languageKeys.checkedAt < revisionCheckInterval.toNanos()) {
+            return languageKeys.current;
+        }
+        Optional<LanguageRepository.LanguageRevision> language =
+                languageRepository.findRevisionInfoByCode(languageKeys.languageCode);
+        synchronized (languageKeys) {
+            languageKeys.checkedAt = now;
+            if (language.isEmpty() || language.get().getId() != languageKeys.languageId
+                    || languageKeys.revision < language.get().getCompactedRevision()) {
+                // Deleted or recreated language, or the changes since the filter are no longer logged
+                languageKeys.current = false;
+                scheduleBuild(languageKeys.languageCode);
+                return false;
+            }
+            if (languageKeys.revision < language.get().getRevision()) {
+                for (TranslationChange change : translationChangeRepository.findChanges(
+                        languageKeys.languageId, languageKeys.revision, language.get().getRevision())) {
+                    if (change.getType() == TranslationChange.Type.UPSERT) {
+                        languageKeys.filter.put(change.getTranslationKey());
+                    }
+                }
+                languageKeys.revision = language.get().getRevision();
+            }
+            languageKeys.current = true;
+            return true;
+        }
+    }
+
+    private void scheduleBuild(String languageCode) {
+        if (!pendingBuilds.add(languageCode)) {
+            return;
+        }
+        builder.execute(() -> {
+            pendingBuilds.remove(languageCode);
+            try {
+                build(languageCode);
+            } catch (RuntimeException e) {
+                log.error("Failed to rebuild key filter for language {}", languageCode, e);
+            }
+        });
+    }
+
+    private void build(String languageCode) {
+        // Read the revision first: a concurrent write then only causes one extra rebuild
+        Optional<LanguageRepository.LanguageRevision> language = languageRepository.findRevisionInfoByCode(languageCode);
+        if (language.isEmpty()) {
+            filters.remove(languageCode);
+            return;
+        }
+        long languageId = language.get().getId();
+        long keyCount = translationJdbcRepository.countKeys(languageId);
+        // Leave headroom for keys added before the next rebuild
+        KeyBloomFilter filter = KeyBloomFilter.create(keyCount + keyCount / 4 + 64, falsePositiveRate);
+        translationJdbcRepository.streamKeys(languageId, filter::put);
+        filters.put(languageCode, new LanguageKeys(languageCode, languageId, language.get().getRevision(), filter,
+                System.nanoTime()));
+        log.debug("Built key filter for language {} with {} keys", languageCode, keyCount);
+    }
+
+    private static final class LanguageKeys {
+
+        private final String languageCode;
+        private final long languageId;
+        private final KeyBloomFilter filter;
+        private volatile long revision;
+        private volatile long checkedAt;
+        private volatile boolean current = true;
+
+        LanguageKeys(String languageCode, long languageId, long revision, KeyBloomFilter filter, long checkedAt) {
+            this.languageCode = languageCode;
+            this.languageId = languageId;
+            this.revision = revision;
+            this.filter = filter;
+            this.checkedAt = checkedAt;
+        }
+    }
+
+    /**
+     * Thrown for misses answered from the filter or the negative cache; these are expected
+     * and frequent, so no stack trace is captured.
+     */
+    private static final class MissingTranslationException extends EntityNotFoundException {
+
+        MissingTranslationException() {
+            super("Translation not found");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.translation.service;
+
+import com.translation.dto.TranslationDeltaDto;
+import com.translation.model.Language;
+import com.translation.model.TranslationChange;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationBulkRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationJdbcRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the monotonically increasing revision of each language together with the
+ * change log that delta exports are served from.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranslationRevisionService {
+
+    private final LanguageRepository languageRepository;
+    private final TranslationChangeRepository translationChangeRepository;
+    private final TranslationJdbcRepository translationJdbcRepository;
+    private final TranslationBulkRepository translationBulkRepository;
+
+    @Value("${translation.delta.retention:7d}")
+    private Duration retention;
+
+    /**
+     * Bumps the revision of a language and logs the change under the new revision. The
+     * revision update locks the language row, so concurrent writers are serialized and
+     * revisions are handed out in commit order per language.
+     *
+     * @param content new content, or {@code null} when the key was deleted
+     */
+    @Transactional
+    public long recordChange(Long languageId, String key, String content) {
+        languageRepository.incrementRevision(languageId);
+        long revision = languageRepository.findRevisionById(languageId);
+
+        TranslationChange change = new TranslationChange();
+        change.setLanguageId(languageId);
+        change.setRevision(revision);
+        change.setTranslationKey(key);
+        change.setContent(content);
+        change.setType(content != null ? TranslationChange.Type.UPSERT : TranslationChange.Type.DELETE);
+        translationChangeRepository.save(change);
+        return revision;
+    }
+
+    /**
+     * Like {@link #recordChange}, for many upserts of one language at once: the revision
+     * is advanced in a single update and the change log is written in JDBC batches.
+     *
+     * @param contents new content per key, logged in iteration order
+     * @return the revision of the last change
+     */
+    @Transactional
+    public long recordChanges(Long languageId, Map<String, String> contents) {
+        if (contents.isEmpty()) {
+            return languageRepository.findRevisionById(languageId);
+        }
+        languageRepository.advanceRevision(languageId, contents.size());
+        long revision = languageRepository.findRevisionById(languageId);
+        translationBulkRepository.insertChanges(languageId, revision - contents.size() + 1, contents);
+        return revision;
+    }
+
+    /**
+     * Advances the revision after writes that bypass the change log, such as seeding, and
+     * marks everything before it as compacted. Delta exports and in-memory indexes that are
+     * behind this revision then reload the language in full.
+     */
+    @Transactional
+    public long recordUnloggedChanges(Long languageId) {
+        languageRepository.incrementRevision(languageId);
+        long revision = languageRepository.findRevisionById(languageId);
+        languageRepository.updateCompactedRevision(languageId, revision);
+        return revision;
+    }
+
+    @Transactional(readOnly = true)
+    public TranslationDeltaDto getDelta(String languageCode, long since) {
+        LanguageRepository.LanguageRevision language = languageRepository.findRevisionInfoByCode(languageCode)
+                .orElseThrow(() -> new EntityNotFoundException("Language not found: " + languageCode));
+        long revision = language.getRevision();
+
+        if (since < language.getCompactedRevision() || since > revision) {
+            log.debug("Revision {} of language {} is not available, falling back to full export", since, languageCode);
+            return fullExport(language, since, revision);
+        }
+
+        Map<String, String> updated = new LinkedHashMap<>();
+        Set<String> removed = new HashSet<>();
+        List<TranslationChange> changes = translationChangeRepository.findChanges(language.getId(), since, revision);
+        for (TranslationChange change : changes) {
+            if (change.getType() == TranslationChange.Type.DELETE) {
+                updated.remove(change.getTranslationKey());
+                removed.add(change.getTranslationKey());
+            } else {
+                removed.remove(change.getTranslationKey());
+                updated.put(change.getTranslationKey(), change.getContent());
+            }
+        }
+
+        return TranslationDeltaDto.builder()
+                .languageCode(languageCode)
+                .fromRevision(since)
+                .revision(revision)
+                .full(false)
+                .updated(updated)
+                .removed(removed)
+                .build();
+    }
+
+    /**
+     * Drops change log entries older than the retention period. Clients asking for a
+     * revision before the compaction point receive a full export instead.
+     */
+    @Scheduled(initialDelayString = "${translation.delta.compaction-interval:PT1H}",
+               fixedDelayString = "${translation.delta.compaction-interval:PT1H}")
+    @Transactional
+    public void compactChangeLog() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        for (Language language : languageRepository.findAll()) {
+            translationChangeRepository.findLastRevisionBefore(language.getId(), cutoff).ifPresent(revision -> {
+                int deleted = translationChangeRepository.deleteUpToRevision(language.getId(), revision);
+                languageRepository.updateCompactedRevision(language.getId(), revision);
+                log.info("Compacted {} change log entries of language {} up to revision {}",
+                        deleted, language.getCode(), revision);
+            });
+        }
+    }
+
+    private TranslationDeltaDto fullExport(LanguageRepository.LanguageRevision language, long since, long revision) {
+        Map<String, String> updated = new LinkedHashMap<>();
+        translationJdbcRepository.streamContents(language.getId(), updated::put);
+        return TranslationDeltaDto.builder()
+                .languageCode(language.getCode())
+                .fromRevision(since)
+                .revision(revision)
+                .full(true)
+                .updated(updated)
+                .removed(Set.of())
+                .build();
+    }
+}
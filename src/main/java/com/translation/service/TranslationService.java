@@ -1,21 +1,34 @@
 package com.translation.service;
 
+import com.translation.cache.CacheBatches;
+import com.translation.cache.LanguageRegistry;
+import com.translation.datasource.ReplicaRead;
+import com.translation.dto.TranslationCursorPageDto;
 import com.translation.dto.TranslationDto;
+import com.translation.dto.TranslationResponseDto;
+import com.translation.event.TranslationChangedEvent;
 import com.translation.model.Language;
 import com.translation.model.Tag;
 import com.translation.model.Translation;
 import com.translation.repository.LanguageRepository;
 import com.translation.repository.TagRepository;
 import com.translation.repository.TranslationRepository;
+import com.translation.search.SearchCursor;
+import com.translation.search.TranslationSearchBackend;
+import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,13 +40,24 @@ public class TranslationService {
 
     private final TranslationRepository translationRepository;
     private final LanguageRepository languageRepository;
+    private final LanguageRegistry languageRegistry;
     private final TagRepository tagRepository;
+    private final TranslationRevisionService translationRevisionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TranslationSearchBackend translationSearchBackend;
+    private final CacheManager cacheManager;
+    private final TranslationLoadBatcher translationLoadBatcher;
 
     @Transactional
-    @CacheEvict(value = {"translations", "translationsByLanguage"}, allEntries = true)
+    @CacheEvict(value = "translations", key = "#dto.key + '_' + #dto.languageCode")
     public Translation createTranslation(TranslationDto dto) {
-        Language language = languageRepository.findByCode(dto.getLanguageCode())
-                .orElseThrow(() -> new EntityNotFoundException("Language not found: " + dto.getLanguageCode()));
+        long languageId = languageRegistry.require(dto.getLanguageCode()).id();
+        if (translationRepository.existsByTranslationKeyAndLanguageId(dto.getKey(), languageId)) {
+            throw new EntityExistsException("Translation already exists with key " + dto.getKey()
+                    + " in language " + dto.getLanguageCode());
+        }
+        // A reference is enough to set the foreign key, the language row is never read
+        Language language = languageRepository.getReferenceById(languageId);
 
         Set<Tag> tags = getOrCreateTags(dto.getTags());
 
@@ -43,15 +67,20 @@ public class TranslationService {
         translation.setLanguage(language);
         translation.setTags(tags);
 
-        return translationRepository.save(translation);
+        Translation saved = translationRepository.save(translation);
+        long revision = translationRevisionService.recordChange(languageId, dto.getKey(), dto.getContent());
+        eventPublisher.publishEvent(TranslationChangedEvent.upserted(dto.getLanguageCode(), dto.getKey(), revision));
+        return saved;
     }
 
     @Transactional
-    @CacheEvict(value = {"translations", "translationsByLanguage"}, allEntries = true)
+    @CacheEvict(value = "translations", key = "#key + '_' + #languageCode")
     public Translation updateTranslation(String key, String languageCode, TranslationDto dto) {
-        Translation translation = translationRepository.findByKeyAndLanguageCode(key, languageCode)
+        long languageId = languageRegistry.require(languageCode).id();
+        Translation translation = translationRepository.findByKeyAndLanguageId(key, languageId)
                 .orElseThrow(() -> new EntityNotFoundException("Translation not found"));
 
+        boolean contentChanged = !dto.getContent().equals(translation.getContent());
         translation.setContent(dto.getContent());
         
         if (dto.getTags() != null) {
@@ -59,44 +88,127 @@ public class TranslationService {
             translation.setTags(tags);
         }
 
-        return translationRepository.save(translation);
+        Translation saved = translationRepository.save(translation);
+        if (contentChanged) {
+            long revision = translationRevisionService.recordChange(languageId, key, dto.getContent());
+            eventPublisher.publishEvent(TranslationChangedEvent.upserted(languageCode, key, revision));
+        } else {
+            eventPublisher.publishEvent(TranslationChangedEvent.upserted(languageCode, key));
+        }
+        return saved;
     }
 
+    @ReplicaRead
     @Transactional(readOnly = true)
     public Page<Translation> searchTranslations(String searchTerm, Set<String> tags, int page, int size) {
-        return translationRepository.searchTranslations(
+        return translationSearchBackend.search(
             searchTerm != null ? searchTerm : "",
             tags != null ? tags : new HashSet<>(),
             PageRequest.of(page, size)
         );
     }
 
+    /**
+     * Keyset pagination ordered by key and id. One extra row is fetched to tell whether
+     * another page follows, so no count is needed unless {@code includeTotal} is set.
+     *
+     * @param cursor token from the previous page, or {@code null} for the first page
+     */
+    @ReplicaRead
     @Transactional(readOnly = true)
-    @Cacheable(value = "translations", key = "#key + '_' + #languageCode")
+    public TranslationCursorPageDto searchTranslationsAfter(String searchTerm, Set<String> tags, String cursor,
+                                                            int size, boolean includeTotal) {
+        String term = searchTerm != null ? searchTerm : "";
+        Set<String> tagNames = tags != null ? tags : new HashSet<>();
+        SearchCursor after = cursor != null && !cursor.isEmpty() ? SearchCursor.decode(cursor) : SearchCursor.START;
+
+        List<Translation> translations = translationSearchBackend.searchAfter(term, tagNames, after, size + 1);
+        String nextCursor = null;
+        if (translations.size() > size) {
+            translations = translations.subList(0, size);
+            Translation last = translations.get(size - 1);
+            nextCursor = new SearchCursor(last.getTranslationKey(), last.getId()).encode();
+        }
+        return TranslationCursorPageDto.builder()
+                .content(translations.stream().map(TranslationResponseDto::from).toList())
+                .nextCursor(nextCursor)
+                .totalElements(includeTotal ? translationSearchBackend.count(term, tagNames) : null)
+                .build();
+    }
+
+    /**
+     * Cache misses are coalesced by the {@link TranslationLoadBatcher} when enabled. There is
+     * deliberately no transaction here: batches are loaded on the batcher's threads, and a
+     * caller holding a connection while it waits would only tie up the pool. Callers that
+     * are already in a transaction load directly, so they still see their own writes.
+     */
+    @Cacheable(value = "translations", key = "#key + '_' + #languageCode", sync = true)
     public Translation getTranslation(String key, String languageCode) {
-        return translationRepository.findByKeyAndLanguageCode(key, languageCode)
-                .orElseThrow(() -> new EntityNotFoundException("Translation not found"));
+        Optional<Translation> translation = translationLoadBatcher.isEnabled()
+                && !TransactionSynchronizationManager.isActualTransactionActive()
+                ? translationLoadBatcher.load(key, languageCode)
+                : languageRegistry.find(languageCode)
+                        .flatMap(language -> translationRepository.findByKeyAndLanguageId(key, language.id()));
+        return translation.orElseThrow(() -> new EntityNotFoundException("Translation not found"));
     }
 
-    @Transactional(readOnly = true)
-    @Cacheable(value = "translationsByLanguage", key = "#languageCode")
-    public Map<String, Object> getTranslationsForLanguage(String languageCode) {
-        List<Translation> translations = translationRepository.findAllByLanguageCode(languageCode);
-        
-        Map<String, Object> result = new HashMap<>();
+    /**
+     * Batch counterpart of {@link #getTranslation}: all keys are read from the
+     * {@code translations} cache in one multi-get, and the remainder is loaded with a
+     * single query and written back to the cache.
+     *
+     * @param keysByLanguage keys to look up per language code
+     * @return translations found, by language code and key
+     */
+    public Map<String, Map<String, Translation>> getTranslations(Map<String, Set<String>> keysByLanguage) {
+        Map<String, LookupKey> pending = new LinkedHashMap<>();
+        keysByLanguage.forEach((languageCode, keys) -> keys.forEach(key ->
+                pending.put(key + "_" + languageCode, new LookupKey(languageCode, key))));
+        Map<String, Map<String, Translation>> found = new HashMap<>();
+        int requested = pending.size();
+        if (requested == 0) {
+            return found;
+        }
+
+        Cache cache = cacheManager.getCache("translations");
+        if (cache != null) {
+            CacheBatches.getAll(cache, pending.keySet()).forEach((cacheKey, value) -> {
+                LookupKey lookup = pending.remove(cacheKey);
+                found.computeIfAbsent(lookup.languageCode(), code -> new HashMap<>())
+                        .put(lookup.key(), (Translation) value);
+            });
+        }
+        int cached = requested - pending.size();
+        if (pending.isEmpty()) {
+            return found;
+        }
+
+        Set<String> keys = new HashSet<>();
+        Set<Long> languageIds = new HashSet<>();
+        for (LookupKey lookup : pending.values()) {
+            keys.add(lookup.key());
+            languageRegistry.find(lookup.languageCode()).ifPresent(language -> languageIds.add(language.id()));
+        }
+        Map<String, Translation> loaded = new HashMap<>();
+        List<Translation> translations = languageIds.isEmpty()
+                ? List.of() : translationRepository.findByKeysAndLanguageIds(keys, languageIds);
         for (Translation translation : translations) {
-            String[] keyParts = translation.getTranslationKey().split("\\.");
-            buildNestedStructure(result, keyParts, translation.getContent());
+            String cacheKey = translation.getTranslationKey() + "_" + translation.getLanguage().getCode();
+            // The query covers every key in every language, not only the pending pairs
+            if (pending.containsKey(cacheKey)) {
+                loaded.put(cacheKey, translation);
+                found.computeIfAbsent(translation.getLanguage().getCode(), code -> new HashMap<>())
+                        .put(translation.getTranslationKey(), translation);
+            }
         }
-        
-        return result;
+        if (cache != null && !loaded.isEmpty()) {
+            CacheBatches.putAll(cache, loaded);
+        }
+        log.debug("Batch lookup of {} translations: {} cached, {} loaded", requested, cached, loaded.size());
+        return found;
     }
 
-    private void buildNestedStructure(Map<String, Object> current, String[] keyParts, String value) {
-        for (int i = 0; i < keyParts.length - 1; i++) {
-            current = (Map<String, Object>) current.computeIfAbsent(keyParts[i], k -> new HashMap<>());
-        }
-        current.put(keyParts[keyParts.length - 1], value);
+    private record LookupKey(String languageCode, String key) {
     }
 
     private Set<Tag> getOrCreateTags(Set<String> tagNames) {
@@ -123,10 +235,13 @@ public class TranslationService {
     }
 
     @Transactional
-    @CacheEvict(value = {"translations", "translationsByLanguage"}, allEntries = true)
+    @CacheEvict(value = "translations", key = "#key + '_' + #languageCode")
     public void deleteTranslation(String key, String languageCode) {
-        Translation translation = translationRepository.findByKeyAndLanguageCode(key, languageCode)
+        long languageId = languageRegistry.require(languageCode).id();
+        Translation translation = translationRepository.findByKeyAndLanguageId(key, languageId)
                 .orElseThrow(() -> new EntityNotFoundException("Translation not found"));
         translationRepository.delete(translation);
+        long revision = translationRevisionService.recordChange(languageId, key, null);
+        eventPublisher.publishEvent(TranslationChangedEvent.deleted(languageCode, key, revision));
     }
 }
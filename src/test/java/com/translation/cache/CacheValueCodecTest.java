@@ -0,0 +1,95 @@
+package com.translation.cache;
+
+import com.translation.model.Language;
+import com.translation.model.Tag;
+import com.translation.model.Translation;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheValueCodecTest {
+
+    private final CacheValueCodec codec = new CacheValueCodec();
+
+    @Test
+    void translation_RoundTrip() {
+        Language language = new Language();
+        language.setId(7L);
+        language.setCode("en");
+        Tag tag = new Tag();
+        tag.setName("web");
+        Translation translation = new Translation();
+        translation.setId(42L);
+        translation.setTranslationKey("common.greeting");
+        translation.setContent("Grüße 👋");
+        translation.setLanguage(language);
+        translation.getTags().add(tag);
+        translation.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000));
+
+        Translation decoded = (Translation) codec.deserialize(codec.serialize(translation));
+
+        assertEquals(42L, decoded.getId());
+        assertEquals("common.greeting", decoded.getTranslationKey());
+        assertEquals("Grüße 👋", decoded.getContent());
+        assertEquals(7L, decoded.getLanguage().getId());
+        assertEquals("en", decoded.getLanguage().getCode());
+        assertEquals(List.of("web"), decoded.getTags().stream().map(Tag::getName).toList());
+        assertEquals(translation.getCreatedAt(), decoded.getCreatedAt());
+        assertNull(decoded.getUpdatedAt());
+    }
+
+    @Test
+    void tree_RoundTrip() {
+        Map<String, Object> button = new HashMap<>();
+        button.put("save", "Save");
+        button.put("cancel", "");
+        Map<String, Object> tree = new HashMap<>();
+        tree.put("button", button);
+        tree.put("welcome", "Welcome");
+
+        assertEquals(tree, codec.deserialize(codec.serialize(tree)));
+    }
+
+    @Test
+    void otherValues_FallBackToJdkSerialization() {
+        assertEquals(List.of(1, 2, 3), codec.deserialize(codec.serialize(List.of(1, 2, 3))));
+        assertEquals(Map.of(1, "one"), codec.deserialize(codec.serialize(Map.of(1, "one"))));
+    }
+
+    @Test
+    void unknownFormats_AreTreatedAsMisses() {
+        byte[] newerVersion = codec.serialize("value");
+        newerVersion[1] = CacheValueCodec.VERSION + 1;
+
+        assertNull(codec.deserialize(newerVersion));
+        assertNull(codec.deserialize(new JdkSerializationRedisSerializer().serialize("legacy")));
+    }
+
+    @Test
+    void corruptStringLengths_AreRejected() {
+        byte[] value = codec.serialize("value");
+        byte[] header = Arrays.copyOf(value, 3);
+
+        // Length beyond the remaining bytes
+        byte[] oversized = Arrays.copyOf(value, value.length);
+        oversized[3] = 0x7F;
+        assertThrows(SerializationException.class, () -> codec.deserialize(oversized));
+
+        // Length that overflows an int
+        byte[] overflowing = Arrays.copyOf(header, 8);
+        overflowing[3] = (byte) 0xFF;
+        overflowing[4] = (byte) 0xFF;
+        overflowing[5] = (byte) 0xFF;
+        overflowing[6] = (byte) 0xFF;
+        overflowing[7] = 0x0F;
+        assertThrows(SerializationException.class, () -> codec.deserialize(overflowing));
+    }
+}
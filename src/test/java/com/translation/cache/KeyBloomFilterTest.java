@@ -0,0 +1,41 @@
+package com.translation.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyBloomFilterTest {
+
+    @Test
+    void mightContain_AddedKeysAreAlwaysFound() {
+        KeyBloomFilter filter = KeyBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("section" + (i % 50) + ".key" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("section" + (i % 50) + ".key" + i));
+        }
+    }
+
+    @Test
+    void mightContain_FalsePositiveRateNearTarget() {
+        KeyBloomFilter filter = KeyBloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("existing.key" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("missing.key" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void create_RejectsInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> KeyBloomFilter.create(10, 1.5));
+    }
+}
@@ -0,0 +1,98 @@
+package com.translation.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicroBatcherTest {
+
+    private ScheduledExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newScheduledThreadPool(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void load_CoalescesKeysWithinTheWindow() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(Duration.ofMillis(200), 100, keys -> {
+            Map<String, String> values = new HashMap<>();
+            keys.stream().filter(key -> !key.startsWith("missing")).forEach(key -> values.put(key, key.toUpperCase()));
+            return values;
+        });
+
+        CompletableFuture<String> a = batcher.load("a");
+        CompletableFuture<String> b = batcher.load("b");
+        CompletableFuture<String> again = batcher.load("a");
+        CompletableFuture<String> missing = batcher.load("missing");
+
+        assertEquals("A", a.get(5, TimeUnit.SECONDS));
+        assertEquals("B", b.get(5, TimeUnit.SECONDS));
+        assertSame(a, again);
+        assertNull(missing.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of("a", "b", "missing")), batches);
+
+        assertEquals(1, meterRegistry.get("batch.size").summary().count());
+        assertEquals(3, meterRegistry.get("batch.size").summary().totalAmount());
+        assertEquals(3, meterRegistry.get("batch.wait").timer().count());
+    }
+
+    @Test
+    void load_DispatchesFullBatchWithoutWaiting() throws Exception {
+        MicroBatcher<String, String> batcher = batcher(Duration.ofHours(1), 2, keys -> Map.of());
+
+        CompletableFuture<String> a = batcher.load("a");
+        CompletableFuture<String> b = batcher.load("b");
+
+        assertNull(a.get(5, TimeUnit.SECONDS));
+        assertNull(b.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(Set.of("a", "b")), batches);
+    }
+
+    @Test
+    void load_FailsEveryCallerOfAFailedBatch() {
+        MicroBatcher<String, String> batcher = batcher(Duration.ofMillis(1), 100, keys -> {
+            throw new IllegalStateException("database down");
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> batcher.load("a").get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    private MicroBatcher<String, String> batcher(Duration window, int maxBatchSize,
+                                                 Function<Set<String>, Map<String, String>> loader) {
+        return new MicroBatcher<>(window, maxBatchSize, keys -> {
+            batches.add(Set.copyOf(keys));
+            return loader.apply(keys);
+        }, executor, executor,
+                DistributionSummary.builder("batch.size").register(meterRegistry),
+                Timer.builder("batch.wait").register(meterRegistry));
+    }
+}
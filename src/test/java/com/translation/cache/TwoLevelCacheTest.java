@@ -0,0 +1,207 @@
+package com.translation.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCache remoteCache;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("translations", false);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TwoLevelCache("translations",
+                Caffeine.newBuilder().maximumWeight(1_000_000).weigher(new CacheValueWeigher())
+                        .expireAfterWrite(Duration.ofMinutes(1)),
+                remoteCache, invalidationPublisher, new CacheMetrics(meterRegistry, "translations"),
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).build(), null, null);
+    }
+
+    @Test
+    void get_ReadsThroughRemoteAndPopulatesLocal() {
+        remoteCache.put("key_en", "value");
+
+        assertEquals("value", cache.get("key_en").get());
+        remoteCache.evict("key_en");
+        assertEquals("value", cache.get("key_en").get());
+
+        assertEquals(1, count("local", "hit"));
+        assertEquals(1, count("local", "miss"));
+        assertEquals(1, count("remote", "hit"));
+    }
+
+    @Test
+    void get_MissOnBothLevels() {
+        assertNull(cache.get("missing"));
+        assertEquals(1, count("remote", "miss"));
+    }
+
+    @Test
+    void getWithLoader_LoadsOnceAndStoresInBothLevels() {
+        assertEquals("loaded", cache.get("key_en", () -> "loaded"));
+        assertEquals("loaded", cache.get("key_en", () -> "reloaded"));
+        assertEquals("loaded", remoteCache.get("key_en").get());
+    }
+
+    @Test
+    void getWithLoader_ConcurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("key_en", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return "loaded";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> cache.get("key_en", () -> "loaded-" + loads.incrementAndGet()));
+            Future<String> third = executor.submit(() -> cache.get("key_en", () -> "loaded-" + loads.incrementAndGet()));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("loaded", first.get(5, TimeUnit.SECONDS));
+            assertEquals("loaded", second.get(5, TimeUnit.SECONDS));
+            assertEquals("loaded", third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getWithLoader_ServesEvictedValueWhileReloading() throws Exception {
+        cache.put("key_en", "old");
+        cache.evict("key_en");
+
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> reload = executor.submit(() -> cache.get("key_en", () -> {
+                loading.countDown();
+                release.await();
+                return "new";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            assertEquals("old", cache.get("key_en", () -> "unexpected"));
+            release.countDown();
+            assertEquals("new", reload.get(5, TimeUnit.SECONDS));
+            assertEquals("new", cache.get("key_en", () -> "unexpected"));
+            assertEquals(1, count("local", "stale"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getWithLoader_WrapsLoaderFailure() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        Cache.ValueRetrievalException e = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("key_en", () -> { throw failure; }));
+
+        assertSame(failure, e.getCause());
+        assertNull(remoteCache.get("key_en"));
+    }
+
+    @Test
+    void evict_RemovesFromBothLevelsAndBroadcasts() {
+        cache.put("key_en", "value");
+
+        cache.evict("key_en");
+
+        assertNull(cache.get("key_en"));
+        assertNull(remoteCache.get("key_en"));
+        verify(invalidationPublisher).publish("translations", "key_en");
+    }
+
+    @Test
+    void evictLocal_KeepsRemoteEntryAndDoesNotBroadcast() {
+        cache.put("key_en", "value");
+        remoteCache.put("key_en", "updated");
+
+        cache.evictLocal("key_en");
+
+        assertEquals("updated", cache.get("key_en").get());
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    void clear_BroadcastsWholeCacheInvalidation() {
+        cache.put("key_en", "value");
+
+        cache.clear();
+
+        assertNull(cache.get("key_en"));
+        verify(invalidationPublisher).publish("translations", null);
+    }
+
+    @Test
+    void getAll_ServesLocalHitsAndReadsTheRestFromRemote() {
+        cache.put("a_en", "A");
+        remoteCache.put("b_en", "B");
+
+        assertEquals(Map.of("a_en", "A", "b_en", "B"), cache.getAll(List.of("a_en", "b_en", "c_en")));
+        remoteCache.evict("b_en");
+        assertEquals(Map.of("b_en", "B"), cache.getAll(List.of("b_en")));
+
+        assertEquals(2, count("local", "hit"));
+        assertEquals(2, count("local", "miss"));
+        assertEquals(1, count("remote", "hit"));
+        assertEquals(1, count("remote", "miss"));
+    }
+
+    @Test
+    void putAll_WritesBothLevelsAndSkipsNulls() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("a_en", "A");
+        values.put("b_en", null);
+
+        cache.putAll(values);
+
+        assertEquals("A", remoteCache.get("a_en").get());
+        assertNull(remoteCache.get("b_en"));
+        remoteCache.clear();
+        assertEquals(Map.of("a_en", "A"), cache.getAll(List.of("a_en", "b_en")));
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry.get("translation.cache.requests")
+                .tag("level", level)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
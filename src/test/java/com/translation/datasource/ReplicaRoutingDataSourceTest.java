@@ -0,0 +1,173 @@
+package com.translation.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uses separate in-memory H2 databases as primary and replicas, each knowing its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final List<JdbcDataSource> databases = new ArrayList<>();
+    private final AtomicReference<String> client = new AtomicReference<>();
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcDataSource database : databases) {
+            try {
+                new JdbcTemplate(database).execute("SHUTDOWN");
+            } catch (RuntimeException e) {
+                // Already unreachable
+            }
+        }
+    }
+
+    @Test
+    void routesOnlyReplicaReadsToReplicas() {
+        ServerReader reader = reader(database("primary"), List.of(database("replica-0")));
+
+        assertEquals("replica-0", reader.readOnReplica());
+        assertEquals("primary", reader.read());
+        assertEquals("primary", reader.write());
+        assertEquals("primary", reader.server());
+    }
+
+    @Test
+    void spreadsReadsOverHealthyReplicas() {
+        ServerReader reader = reader(database("primary"), List.of(database("replica-0"), database("replica-1")));
+
+        Set<String> servers = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            servers.add(reader.readOnReplica());
+        }
+
+        assertEquals(Set.of("replica-0", "replica-1"), servers);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicasFail() {
+        JdbcDataSource replica = database("replica-0");
+        ReplicaRoutingDataSource routing = routing(database("primary"), List.of(replica, unreachable()));
+        ServerReader reader = reader(routing);
+        assertEquals(1, routing.healthyReplicas());
+
+        replica.setURL("jdbc:h2:mem:gone-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+
+        assertEquals("primary", reader.readOnReplica());
+        assertEquals(0, routing.healthyReplicas());
+        routing.checkReplicas();
+        assertEquals(0, routing.healthyReplicas());
+    }
+
+    @Test
+    void clientReadsOwnWritesFromPrimary() {
+        ServerReader reader = reader(database("primary"), List.of(database("replica-0")));
+
+        client.set("alice");
+        assertEquals("replica-0", reader.readOnReplica());
+        reader.write();
+        assertEquals("primary", reader.readOnReplica());
+
+        client.set("bob");
+        assertEquals("replica-0", reader.readOnReplica());
+    }
+
+    @Test
+    void connectionsForOtherCredentialsComeFromThePrimary() throws Exception {
+        ReplicaRoutingDataSource routing = routing(database("primary"), List.of(database("replica-0")));
+
+        try (Connection connection = routing.getConnection("", "")) {
+            assertEquals("primary", new JdbcTemplate(new SingleConnectionDataSource(connection, true))
+                    .queryForObject("SELECT name FROM server", String.class));
+        }
+    }
+
+    private ServerReader reader(DataSource primary, List<DataSource> replicas) {
+        return reader(routing(primary, replicas));
+    }
+
+    private ReplicaRoutingDataSource routing(DataSource primary, List<? extends DataSource> replicas) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.copyOf(replicas),
+                Duration.ofSeconds(5), Duration.ofMinutes(1), client::get);
+        routing.checkReplicas();
+        return routing;
+    }
+
+    private static ServerReader reader(ReplicaRoutingDataSource routing) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        ProxyFactory proxyFactory = new ProxyFactory(new ServerReader(dataSource));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ReplicaRead.class), new ReplicaReadInterceptor()));
+        return (ServerReader) proxyFactory.getProxy();
+    }
+
+    private JdbcDataSource database(String name) {
+        JdbcDataSource database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE server (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO server VALUES (?)", name);
+        databases.add(database);
+        return database;
+    }
+
+    private static JdbcDataSource unreachable() {
+        JdbcDataSource database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        return database;
+    }
+
+    static class ServerReader {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        ServerReader(DataSource dataSource) {
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        @ReplicaRead
+        public String readOnReplica() {
+            return readOnly.execute(status -> server());
+        }
+
+        public String read() {
+            return readOnly.execute(status -> server());
+        }
+
+        public String write() {
+            return readWrite.execute(status -> server());
+        }
+
+        public String server() {
+            return jdbcTemplate.queryForObject("SELECT name FROM server", String.class);
+        }
+    }
+}
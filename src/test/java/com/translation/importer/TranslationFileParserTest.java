@@ -0,0 +1,165 @@
+package com.translation.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationFileParserTest {
+
+    @Test
+    void json_FlattensNestedObjects() throws IOException {
+        Map<String, String> entries = parse(ImportFormat.JSON, """
+                {"common": {"button": {"save": "Save", "cancel": "Cancel"}, "title": "Home"},
+                 "error": {"empty": null, "count": 3}}
+                """);
+
+        assertEquals(Map.of("common.button.save", "Save", "common.button.cancel", "Cancel",
+                "common.title", "Home", "error.count", "3"), entries);
+    }
+
+    @Test
+    void json_RejectsArraysAndTrailingContent() {
+        assertThrows(IOException.class, () -> parse(ImportFormat.JSON, "{\"a\": [\"b\"]}"));
+        assertThrows(IOException.class, () -> parse(ImportFormat.JSON, "{\"a\": \"b\"} {}"));
+        assertThrows(IOException.class, () -> parse(ImportFormat.JSON, "{\"a\": {\"b\": \"c\"}"));
+    }
+
+    @Test
+    void csv_ReadsQuotedFieldsAcrossLines() throws IOException {
+        Map<String, String> entries = parse(ImportFormat.CSV,
+                "\uFEFFlanguage,Key,content\r\n" +
+                "en,common.save,Save\r\n" +
+                "\r\n" +
+                "en,common.quote,\"Say \"\"hi\"\", then\nleave\"\r\n" +
+                "en,common.empty,\n");
+
+        assertEquals(Map.of("common.save", "Save", "common.quote", "Say \"hi\", then\nleave", "common.empty", ""),
+                entries);
+    }
+
+    @Test
+    void csv_RequiresKeyAndContentColumns() {
+        assertThrows(IOException.class, () -> parse(ImportFormat.CSV, "key,value\na,b\n"));
+        assertThrows(IOException.class, () -> parse(ImportFormat.CSV, "key,content\n\"a,b\n"));
+    }
+
+    @Test
+    void xliff_ReadsTargetsOfBothVersions() throws IOException {
+        Map<String, String> v12 = parse(ImportFormat.XLIFF, """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <xliff version="1.2" xmlns="urn:oasis:names:tc:xliff:document:1.2">
+                  <file source-language="en" target-language="fr" datatype="plaintext" original="app">
+                    <body>
+                      <trans-unit id="1" resname="common.save"><source>Save</source><target>Enregistrer</target></trans-unit>
+                      <trans-unit id="common.bold"><source>Bold</source><target>En <g id="b">gras</g> &amp; plus</target></trans-unit>
+                      <trans-unit id="common.todo"><source>Todo</source></trans-unit>
+                    </body>
+                  </file>
+                </xliff>
+                """);
+        assertEquals(Map.of("common.save", "Enregistrer", "common.bold", "En gras & plus"), v12);
+
+        Map<String, String> v20 = parse(ImportFormat.XLIFF, """
+                <xliff xmlns="urn:oasis:names:tc:xliff:document:2.0" version="2.0" srcLang="en" trgLang="fr">
+                  <file id="f1">
+                    <unit id="common.intro">
+                      <segment><source>Hello.</source><target>Bonjour.</target></segment>
+                      <segment><source> Bye.</source><target> Au revoir.</target></segment>
+                    </unit>
+                  </file>
+                </xliff>
+                """);
+        assertEquals(Map.of("common.intro", "Bonjour. Au revoir."), v20);
+    }
+
+    @Test
+    void xliff_RejectsDocumentTypeDeclarations() {
+        assertThrows(IOException.class, () -> parse(ImportFormat.XLIFF, """
+                <?xml version="1.0"?>
+                <!DOCTYPE xliff [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <xliff><file><body><trans-unit id="a"><target>&secret;</target></trans-unit></body></file></xliff>
+                """));
+    }
+
+    @Test
+    void po_ReadsTranslatedEntries() throws IOException {
+        Map<String, String> entries = parse(ImportFormat.PO, """
+                msgid ""
+                msgstr ""
+                "Language: fr\\n"
+                "Content-Type: text/plain; charset=UTF-8\\n"
+
+                # Translator comment
+                msgid "common.save"
+                msgstr "Enregistrer"
+
+                msgctxt "common.welcome"
+                msgid "Welcome, %s"
+                msgstr ""
+                "Bienvenue, "
+                "%s\\n\\"ici\\""
+                msgid "common.files"
+                msgid_plural "common.files"
+                msgstr[0] "Un fichier"
+                msgstr[1] "Des fichiers"
+
+                #, fuzzy
+                msgid "common.fuzzy"
+                msgstr "Flou"
+
+                msgid "common.untranslated"
+                msgstr ""
+
+                #~ msgid "common.obsolete"
+                #~ msgstr "Obsolète"
+                """);
+
+        assertEquals(Map.of("common.save", "Enregistrer", "common.welcome", "Bienvenue, %s\n\"ici\"",
+                "common.files", "Un fichier"), entries);
+    }
+
+    @Test
+    void po_CommentStartsTheNextEntry() throws IOException {
+        Map<String, String> entries = parse(ImportFormat.PO, """
+                msgid "common.save"
+                msgstr "Enregistrer"
+                #, fuzzy
+                msgid "common.fuzzy"
+                msgstr "Flou"
+                # Translator comment
+                msgid "common.cancel"
+                msgstr "Annuler"
+                #~ msgid "common.obsolete"
+                #~ msgstr "Obsolète"
+                """);
+
+        assertEquals(Map.of("common.save", "Enregistrer", "common.cancel", "Annuler"), entries);
+    }
+
+    @Test
+    void po_RejectsUnquotedStrings() {
+        assertThrows(IOException.class, () -> parse(ImportFormat.PO, "msgid common.save\nmsgstr \"Save\"\n"));
+    }
+
+    @Test
+    void fromFileName_MatchesExtensions() {
+        assertEquals(Optional.of(ImportFormat.XLIFF), ImportFormat.fromFileName("messages.fr.XLF"));
+        assertEquals(Optional.of(ImportFormat.PO), ImportFormat.fromFileName("fr.po"));
+        assertEquals(Optional.empty(), ImportFormat.fromFileName("fr.txt"));
+        assertEquals(ImportFormat.CSV, ImportFormat.of(" csv "));
+        assertThrows(IllegalArgumentException.class, () -> ImportFormat.of("yaml"));
+    }
+
+    private static Map<String, String> parse(ImportFormat format, String content) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        format.parser().parse(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), entries::put);
+        return entries;
+    }
+}
@@ -0,0 +1,109 @@
+package com.translation.integration;
+
+import com.translation.dto.LanguageDto;
+import com.translation.dto.TranslationDto;
+import com.translation.model.Language;
+import com.translation.model.Translation;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationRepository;
+import com.translation.search.InMemoryTranslationSearchBackend;
+import com.translation.search.TranslationSearchBackend;
+import com.translation.service.LanguageService;
+import com.translation.service.TranslationRevisionService;
+import com.translation.service.TranslationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "translation.search.backend=memory",
+    "translation.search.memory.sync-interval=PT1H"
+})
+@ActiveProfiles("test")
+class InMemorySearchIntegrationTest {
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private LanguageService languageService;
+
+    @Autowired
+    private TranslationRevisionService translationRevisionService;
+
+    @Autowired
+    private TranslationSearchBackend translationSearchBackend;
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        translationRepository.deleteAll();
+        languageRepository.deleteAll();
+
+        LanguageDto languageDto = new LanguageDto();
+        languageDto.setCode("en");
+        languageDto.setName("English");
+        languageService.createLanguage(languageDto);
+        backend().rebuild();
+    }
+
+    @Test
+    void search_ReflectsWritesOnThisNode() {
+        createTranslation("common.button.save", "Save", "web");
+        createTranslation("common.button.cancel", "Cancel", "mobile");
+
+        Page<Translation> result = translationService.searchTranslations("button", Set.of(), 0, 10);
+        assertEquals(2, result.getTotalElements());
+
+        translationService.deleteTranslation("common.button.cancel", "en");
+        result = translationService.searchTranslations("cancel", Set.of("web"), 0, 10);
+        assertEquals(1, result.getTotalElements());
+        assertEquals("common.button.save", result.getContent().get(0).getTranslationKey());
+        assertEquals("en", result.getContent().get(0).getLanguage().getCode());
+    }
+
+    @Test
+    void sync_AppliesChangesLoggedByOtherNodes() {
+        createTranslation("common.title", "Welcome", "web");
+        Language language = languageRepository.findByCode("en").orElseThrow();
+
+        // Simulate a write on another node: no local event, only the change log entry
+        jdbcTemplate.update("UPDATE translations SET content = ? WHERE translation_key = ?", "Greetings", "common.title");
+        translationRevisionService.recordChange(language.getId(), "common.title", "Greetings");
+        assertEquals(0, translationService.searchTranslations("greetings", Set.of(), 0, 10).getTotalElements());
+
+        backend().sync();
+
+        assertEquals(1, translationService.searchTranslations("greetings", Set.of(), 0, 10).getTotalElements());
+        assertEquals(0, translationService.searchTranslations("welcome", Set.of(), 0, 10).getTotalElements());
+    }
+
+    private InMemoryTranslationSearchBackend backend() {
+        return (InMemoryTranslationSearchBackend) translationSearchBackend;
+    }
+
+    private void createTranslation(String key, String content, String tag) {
+        TranslationDto dto = new TranslationDto();
+        dto.setKey(key);
+        dto.setContent(content);
+        dto.setLanguageCode("en");
+        dto.setTags(Set.of(tag));
+        translationService.createTranslation(dto);
+    }
+}
@@ -0,0 +1,156 @@
+package com.translation.integration;
+
+import com.translation.dto.LanguageDto;
+import com.translation.dto.TranslationDto;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationRepository;
+import com.translation.service.LanguageService;
+import com.translation.service.TranslationService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each read endpoint issues, so a lazy association
+ * touched while building a response shows up as a failure rather than as N+1 queries.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    // Keep the scheduled filter rebuild from running its queries in the middle of a request
+    "translation.lookup.bloom-filter.initial-delay=PT1H"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class ResponseQueryCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LanguageService languageService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        translationRepository.deleteAll();
+        languageRepository.deleteAll();
+
+        createLanguage("en", "English");
+        createLanguage("fr", "French");
+        for (int i = 0; i < 5; i++) {
+            createTranslation("common.key" + i, "Value " + i, "en", "web", "mobile");
+            createTranslation("common.key" + i, "Valeur " + i, "fr", "web");
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void languageEndpoints() throws Exception {
+        // Served from the language registry
+        assertStatements(0, get("/api/v1/languages"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].code").value("en"));
+        assertStatements(0, get("/api/v1/languages/fr"))
+                .andExpect(jsonPath("$.name").value("French"))
+                .andExpect(jsonPath("$.fallback").doesNotExist());
+    }
+
+    @Test
+    void getTranslation() throws Exception {
+        assertStatements(1, get("/api/v1/translations/common.key1/en"))
+                .andExpect(jsonPath("$.content").value("Value 1"))
+                .andExpect(jsonPath("$.languageCode").value("en"))
+                .andExpect(jsonPath("$.tags.length()").value(2));
+    }
+
+    @Test
+    void searchEndpoints() throws Exception {
+        // Page of ids, count, then one fetch of the page with language and tags
+        assertStatements(3, post("/api/v1/translations/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"searchTerm\": \"Val\", \"page\": 0, \"size\": 4}"))
+                .andExpect(jsonPath("$.content.length()").value(4))
+                .andExpect(jsonPath("$.content[0].languageCode").exists());
+        assertStatements(2, post("/api/v1/translations/search/cursor")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"searchTerm\": \"Val\", \"size\": 4}"))
+                .andExpect(jsonPath("$.content.length()").value(4))
+                .andExpect(jsonPath("$.content[0].tags").isArray());
+    }
+
+    @Test
+    void tagQuery() throws Exception {
+        // Index revision check, then the fetch of the page
+        assertStatements(2, post("/api/v1/translations/tags/query")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"expression\": \"mobile\", \"page\": 0, \"size\": 3, \"facets\": true}"))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.content[0].tags.length()").value(2));
+    }
+
+    @Test
+    void batchGet() throws Exception {
+        assertStatements(1, post("/api/v1/translations/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"keys\": [\"common.key0\", \"common.key3\", \"missing\"], \"languageCodes\": [\"en\", \"fr\"]}"))
+                .andExpect(jsonPath("$.translations.fr['common.key3']").value("Valeur 3"))
+                .andExpect(jsonPath("$.missing.en[0]").value("missing"));
+    }
+
+    private ResultActions assertStatements(long expected, RequestBuilder request) throws Exception {
+        statistics.clear();
+        ResultActions result = mockMvc.perform(request).andExpect(status().isOk());
+        assertEquals(expected, statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private void createLanguage(String code, String name) {
+        LanguageDto languageDto = new LanguageDto();
+        languageDto.setCode(code);
+        languageDto.setName(name);
+        languageService.createLanguage(languageDto);
+    }
+
+    private void createTranslation(String key, String content, String languageCode, String... tags) {
+        TranslationDto dto = new TranslationDto();
+        dto.setKey(key);
+        dto.setContent(content);
+        dto.setLanguageCode(languageCode);
+        dto.setTags(Set.of(tags));
+        translationService.createTranslation(dto);
+    }
+}
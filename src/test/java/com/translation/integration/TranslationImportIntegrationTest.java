@@ -0,0 +1,141 @@
+package com.translation.integration;
+
+import com.translation.dto.ImportJobDto;
+import com.translation.dto.LanguageDto;
+import com.translation.dto.TranslationDto;
+import com.translation.importer.ImportFormat;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationRepository;
+import com.translation.service.LanguageService;
+import com.translation.service.TranslationImportService;
+import com.translation.service.TranslationService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "translation.import.batch-size=3",
+    "translation.import.queue-capacity=1"
+})
+@ActiveProfiles("test")
+class TranslationImportIntegrationTest {
+
+    @Autowired
+    private TranslationImportService translationImportService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private LanguageService languageService;
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @BeforeEach
+    void setUp() {
+        translationRepository.deleteAll();
+        languageRepository.deleteAll();
+
+        LanguageDto languageDto = new LanguageDto();
+        languageDto.setCode("en");
+        languageDto.setName("English");
+        languageService.createLanguage(languageDto);
+
+        TranslationDto dto = new TranslationDto();
+        dto.setKey("common.save");
+        dto.setContent("Save");
+        dto.setLanguageCode("en");
+        translationService.createTranslation(dto);
+    }
+
+    @Test
+    void dryRun_ReportsChangesWithoutWriting() throws Exception {
+        ImportJobDto job = awaitImport(translationImportService.startImport("en", ImportFormat.JSON, true,
+                stream("{\"common\": {\"save\": \"Store\", \"cancel\": \"Cancel\", \"blank\": \" \"}}")));
+
+        assertEquals(ImportJobDto.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getEntriesRead());
+        assertEquals(1, job.getCreated());
+        assertEquals(1, job.getUpdated());
+        assertEquals(1, job.getSkipped());
+        assertEquals(job.getBytesTotal(), job.getBytesRead());
+        assertEquals(List.of(new ImportJobDto.Change("common.save", "Save", "Store"),
+                new ImportJobDto.Change("common.cancel", null, "Cancel")), job.getChanges());
+        assertEquals("Save", translationService.getTranslation("common.save", "en").getContent());
+        assertThrows(EntityNotFoundException.class, () -> translationService.getTranslation("common.cancel", "en"));
+    }
+
+    @Test
+    void dryRun_CountsKeysRepeatedAcrossBatchesLikeTheImport() throws Exception {
+        // Batches of 3: each key comes back in the second batch
+        String csv = "key,content\ncommon.new,New\ncommon.same,Same\ncommon.save,Store\n" +
+                     "common.new,Newer\ncommon.same,Same\ncommon.save,Store\n";
+
+        ImportJobDto dryRun = awaitImport(translationImportService.startImport("en", ImportFormat.CSV, true,
+                stream(csv)));
+        ImportJobDto real = awaitImport(translationImportService.startImport("en", ImportFormat.CSV, false,
+                stream(csv)));
+
+        assertEquals(ImportJobDto.Status.COMPLETED, real.getStatus(), real.getError());
+        assertEquals(List.of(2L, 2L, 2L), List.of(dryRun.getCreated(), dryRun.getUpdated(), dryRun.getUnchanged()));
+        assertEquals(List.of(dryRun.getCreated(), dryRun.getUpdated(), dryRun.getUnchanged()),
+                List.of(real.getCreated(), real.getUpdated(), real.getUnchanged()));
+    }
+
+    @Test
+    void import_WritesAllBatches() throws Exception {
+        StringBuilder csv = new StringBuilder("key,content\ncommon.save,Save\n");
+        for (int i = 0; i < 20; i++) {
+            csv.append("generated.key").append(i).append(",\"Value ").append(i).append("\"\n");
+        }
+
+        ImportJobDto job = awaitImport(translationImportService.startImport("en", ImportFormat.CSV, false,
+                stream(csv.toString())));
+
+        assertEquals(ImportJobDto.Status.COMPLETED, job.getStatus(), job.getError());
+        assertEquals(20, job.getCreated());
+        assertEquals(1, job.getUnchanged());
+        assertNull(job.getChanges());
+        long languageId = languageRepository.findByCode("en").orElseThrow().getId();
+        assertEquals(21, translationRepository.findAllByLanguageId(languageId).size());
+        assertEquals("Value 19", translationService.getTranslation("generated.key19", "en").getContent());
+    }
+
+    @Test
+    void import_ReportsMalformedFiles() throws Exception {
+        ImportJobDto job = awaitImport(translationImportService.startImport("en", ImportFormat.PO, false,
+                stream("msgid \"a\"\nmsgstr \"b\"\n\nmsgid c\n")));
+
+        assertEquals(ImportJobDto.Status.FAILED, job.getStatus());
+        assertTrue(job.getError().contains("Line 4"), job.getError());
+        assertThrows(EntityNotFoundException.class,
+                () -> translationImportService.startImport("xx", ImportFormat.PO, false, stream("")));
+    }
+
+    private ImportJobDto awaitImport(ImportJobDto started) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        ImportJobDto job = translationImportService.getImport(started.getId());
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            job = translationImportService.getImport(started.getId());
+        }
+        return job;
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,12 +1,36 @@
 package com.translation.integration;
 
+import com.translation.cache.LanguageRegistry;
+import com.translation.dto.BatchTranslationResultDto;
+import com.translation.dto.BulkTranslationResultDto;
+import com.translation.dto.BulkTranslationResultDto.Status;
 import com.translation.dto.LanguageDto;
+import com.translation.dto.LanguageResponseDto;
+import com.translation.dto.NamespaceDto;
+import com.translation.dto.TagQueryResultDto;
+import com.translation.dto.TranslationCursorPageDto;
+import com.translation.dto.TranslationDeltaDto;
 import com.translation.dto.TranslationDto;
+import com.translation.dto.TranslationResponseDto;
+import com.translation.model.Tag;
 import com.translation.model.Translation;
 import com.translation.repository.LanguageRepository;
 import com.translation.repository.TranslationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.service.ExportSnapshotService;
 import com.translation.service.LanguageService;
+import com.translation.service.NamespaceService;
+import com.translation.service.TagIndexService;
+import com.translation.service.TranslationBulkService;
+import com.translation.service.TranslationExportService;
+import com.translation.service.TranslationLookupService;
+import com.translation.service.TranslationRevisionService;
 import com.translation.service.TranslationService;
+import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +39,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,12 +61,39 @@ class TranslationIntegrationTest {
     @Autowired
     private LanguageService languageService;
 
+    @Autowired
+    private TranslationBulkService translationBulkService;
+
+    @Autowired
+    private TranslationExportService translationExportService;
+
+    @Autowired
+    private ExportSnapshotService exportSnapshotService;
+
+    @Autowired
+    private TranslationRevisionService translationRevisionService;
+
+    @Autowired
+    private TranslationLookupService translationLookupService;
+
+    @Autowired
+    private NamespaceService namespaceService;
+
+    @Autowired
+    private TagIndexService tagIndexService;
+
     @Autowired
     private TranslationRepository translationRepository;
 
     @Autowired
     private LanguageRepository languageRepository;
 
+    @Autowired
+    private LanguageRegistry languageRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         translationRepository.deleteAll();
@@ -76,7 +133,7 @@ class TranslationIntegrationTest {
         assertEquals(2, searchResult.getContent().size());
 
         // Export translations
-        Map<String, Object> exportResult = translationService.getTranslationsForLanguage("en");
+        Map<String, Object> exportResult = export("en");
         assertNotNull(exportResult);
         
         @SuppressWarnings("unchecked")
@@ -119,8 +176,8 @@ class TranslationIntegrationTest {
         assertEquals("Bonjour", frTranslation.getContent());
 
         // Verify exports for each language
-        Map<String, Object> enExport = translationService.getTranslationsForLanguage("en");
-        Map<String, Object> frExport = translationService.getTranslationsForLanguage("fr");
+        Map<String, Object> enExport = export("en");
+        Map<String, Object> frExport = export("fr");
 
         @SuppressWarnings("unchecked")
         Map<String, Object> enCommon = (Map<String, Object>) enExport.get("common");
@@ -131,6 +188,307 @@ class TranslationIntegrationTest {
         assertEquals("Bonjour", frCommon.get("greeting"));
     }
 
+    @Test
+    void testStreamingExportBuildsNestedJson() {
+        createTranslation("common.button.save", "Save", "en");
+        createTranslation("common.button.cancel", "Cancel", "en");
+        createTranslation("common.title", "Title", "en");
+        createTranslation("common.title", "Titre", "fr");
+
+        assertEquals(Map.of("common", Map.of("button", Map.of("save", "Save", "cancel", "Cancel"), "title", "Title")),
+                export("en"));
+    }
+
+    @Test
+    void testDeltaExport() {
+        createTranslation("common.greeting", "Hello", "en");
+        createTranslation("common.farewell", "Bye", "en");
+        long revision = translationRevisionService.getDelta("en", 0).getRevision();
+        assertEquals(2, revision);
+
+        TranslationDto update = new TranslationDto();
+        update.setKey("common.greeting");
+        update.setContent("Hi");
+        update.setLanguageCode("en");
+        translationService.updateTranslation("common.greeting", "en", update);
+        translationService.deleteTranslation("common.farewell", "en");
+        createTranslation("common.title", "Title", "fr");
+
+        TranslationDeltaDto delta = translationRevisionService.getDelta("en", revision);
+        assertFalse(delta.isFull());
+        assertEquals(4, delta.getRevision());
+        assertEquals(Map.of("common.greeting", "Hi"), delta.getUpdated());
+        assertEquals(Set.of("common.farewell"), delta.getRemoved());
+
+        translationRepository.flush();
+        TranslationDeltaDto unknownRevision = translationRevisionService.getDelta("en", 99);
+        assertTrue(unknownRevision.isFull());
+        assertEquals(Map.of("common.greeting", "Hi"), unknownRevision.getUpdated());
+    }
+
+    @Test
+    void testCursorSearch() {
+        createTranslation("b.second", "Second", "en");
+        createTranslation("a.first", "First", "en");
+        createTranslation("c.third", "Third", "en");
+        createTranslation("a.first", "Premier", "fr");
+
+        TranslationCursorPageDto first = translationService.searchTranslationsAfter("", null, null, 2, true);
+        assertEquals(List.of("a.first", "a.first"), keys(first));
+        assertEquals(4L, first.getTotalElements());
+        assertNotNull(first.getNextCursor());
+
+        TranslationCursorPageDto second = translationService.searchTranslationsAfter(
+                "", null, first.getNextCursor(), 2, false);
+        assertEquals(List.of("b.second", "c.third"), keys(second));
+        assertNull(second.getTotalElements());
+        assertNull(second.getNextCursor());
+
+        TranslationCursorPageDto filtered = translationService.searchTranslationsAfter("ird", null, null, 10, false);
+        assertEquals(List.of("c.third"), keys(filtered));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> translationService.searchTranslationsAfter("", null, "not a cursor", 2, false));
+    }
+
+    @Test
+    void testSearchLoadsOnlyTheRequestedPage() {
+        for (int i = 0; i < 60; i++) {
+            createTranslation("bulk.key" + i, "Bulk " + i, i % 2 == 0 ? "en" : "fr");
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            Page<Translation> page = translationService.searchTranslations("bulk", Set.of(), 1, 5);
+
+            assertEquals(60, page.getTotalElements());
+            assertEquals(5, page.getContent().size());
+            assertEquals("bulk.key5", page.getContent().get(0).getTranslationKey());
+            // Page of ids, count, then one fetch of the page with language and tags
+            assertEquals(3, statistics.getPrepareStatementCount());
+            assertEquals(5, statistics.getEntityStatistics(Translation.class.getName()).getLoadCount());
+            assertTrue(statistics.getEntityLoadCount() <= 5 + 2 + 1,
+                    "Loaded " + statistics.getEntityLoadCount() + " entities");
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    void testNamespaces() throws Exception {
+        createTranslation("error.form.required", "Required", "en");
+        createTranslation("error.form.email", "Invalid email", "en");
+        createTranslation("error.formal", "Formal", "en");
+        createTranslation("home.title", "Home", "en");
+        translationRepository.flush();
+
+        NamespaceDto errors = namespaceService.getNamespace("en", "error");
+        assertEquals(3, errors.getKeyCount());
+        assertEquals(List.of(new NamespaceDto.Child("form", 2, false), new NamespaceDto.Child("formal", 0, true)),
+                errors.getChildren());
+
+        translationService.deleteTranslation("error.form.email", "en");
+        createTranslation("error.form.min_length", "Too short", "en");
+        translationRepository.flush();
+        NamespaceDto form = namespaceService.getNamespace("en", "error.form.");
+        assertEquals(List.of(new NamespaceDto.Child("min_length", 0, true), new NamespaceDto.Child("required", 0, true)),
+                form.getChildren());
+        assertEquals(4, namespaceService.getNamespace("en", "").getKeyCount());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        translationExportService.writeNamespace("en", "error.form", out);
+        assertEquals(Map.of("min_length", "Too short", "required", "Required"),
+                new ObjectMapper().readValue(out.toByteArray(), Map.class));
+
+        assertThrows(EntityNotFoundException.class, () -> namespaceService.getNamespace("xx", "error"));
+    }
+
+    @Test
+    void testTagQuery() {
+        createTranslation("tag.one", "One", "en", "mobile", "web");
+        createTranslation("tag.two", "Two", "en", "mobile", "desktop");
+        createTranslation("tag.three", "Three", "fr", "mobile");
+        translationRepository.flush();
+
+        TagQueryResultDto result = tagIndexService.query("mobile AND NOT desktop", Set.of(), 0, 10, true);
+        assertEquals(List.of("tag.one", "tag.three"),
+                result.getContent().stream().map(TranslationResponseDto::getKey).toList());
+        assertEquals(Map.of("mobile", 2L, "web", 1L), result.getFacets());
+
+        translationService.deleteTranslation("tag.one", "en");
+        translationRepository.flush();
+        result = tagIndexService.query("mobile", Set.of("en"), 0, 10, false);
+        assertEquals(1, result.getTotalElements());
+        assertEquals("tag.two", result.getContent().get(0).getKey());
+
+        assertThrows(IllegalArgumentException.class, () -> tagIndexService.query("mobile AND", Set.of(), 0, 10, false));
+    }
+
+    @Test
+    void testBulkUpsert() {
+        createTranslation("bulk.existing", "Old", "en", "web");
+        createTranslation("bulk.same", "Same", "en", "web");
+        translationRepository.flush();
+        long revision = languageRepository.findRevisionByCode("en").orElseThrow();
+
+        BulkTranslationResultDto result = translationBulkService.upsertTranslations(List.of(
+                translation("bulk.new", "New", "en", Set.of("mobile", "bulk")),
+                translation("bulk.existing", "Updated", "en", Set.of("mobile")),
+                translation("bulk.same", "Same", "en", null),
+                translation("bulk.new", "Again", "en", null),
+                translation("bulk.new", "Nouveau", "fr", Set.of()),
+                translation("bulk.unknown", "Unknown", "xx", null)));
+
+        assertEquals(List.of(Status.CREATED, Status.UPDATED, Status.UNCHANGED, Status.FAILED, Status.CREATED,
+                        Status.FAILED),
+                result.getItems().stream().map(BulkTranslationResultDto.Item::status).toList());
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(2, result.getFailed());
+
+        // The rows were written with JDBC, behind the persistence context
+        entityManager.clear();
+        Translation updated = translationService.getTranslation("bulk.existing", "en");
+        assertEquals("Updated", updated.getContent());
+        assertEquals(Set.of("mobile"), tagNames(updated));
+        assertEquals(Set.of("mobile", "bulk"), tagNames(translationService.getTranslation("bulk.new", "en")));
+        assertEquals("Nouveau", translationService.getTranslation("bulk.new", "fr").getContent());
+
+        TranslationDeltaDto delta = translationRevisionService.getDelta("en", revision);
+        assertEquals(revision + 2, delta.getRevision());
+        assertEquals(Map.of("bulk.new", "New", "bulk.existing", "Updated"), delta.getUpdated());
+
+        // Ids reserved for the batch never collide with ids Hibernate assigns later
+        createTranslation("bulk.after", "After", "en");
+        translationRepository.flush();
+        assertEquals(4, translationRepository.findAllByLanguageId(languageRegistry.require("en").id()).size());
+    }
+
+    @Test
+    void testBatchGet() {
+        createTranslation("batch.title", "Title", "en");
+        createTranslation("batch.body", "Body", "en");
+        createTranslation("batch.title", "Titre", "fr");
+
+        BatchTranslationResultDto result = translationLookupService.getTranslations(
+                List.of("batch.title", "batch.body", "batch.none"), List.of("en", "fr", "xx"));
+
+        assertEquals(Map.of("batch.title", "Title", "batch.body", "Body"), result.getTranslations().get("en"));
+        assertEquals(Map.of("batch.title", "Titre"), result.getTranslations().get("fr"));
+        assertEquals(Map.of(), result.getTranslations().get("xx"));
+        assertEquals(Set.of("batch.none"), result.getMissing().get("en"));
+        assertEquals(Set.of("batch.body", "batch.none"), result.getMissing().get("fr"));
+        assertEquals(Set.of("batch.title", "batch.body", "batch.none"), result.getMissing().get("xx"));
+    }
+
+    @Test
+    void testCloneLanguage() {
+        createTranslation("clone.title", "Title", "en", "web", "mobile");
+        createTranslation("clone.body", "Body", "en");
+        createTranslation("clone.title", "Titre", "fr");
+
+        LanguageDto languageDto = new LanguageDto();
+        languageDto.setCode("en-gb");
+        languageDto.setName("English (UK)");
+        LanguageResponseDto clone = languageService.cloneLanguage("en", languageDto);
+
+        assertEquals("en-gb", clone.getCode());
+        assertEquals("en", clone.getFallback());
+        assertEquals(Optional.of(1L), languageRepository.findRevisionByCode("en-gb"));
+        assertEquals(2, translationRepository.findAllByLanguageId(languageRegistry.require("en-gb").id()).size());
+        Translation title = translationService.getTranslation("clone.title", "en-gb");
+        assertEquals("Title", title.getContent());
+        assertEquals(Set.of("web", "mobile"), tagNames(title));
+        assertEquals(2, translationRepository.findAllByLanguageId(languageRegistry.require("en").id()).size());
+        assertEquals(Map.of("clone", Map.of("title", "Title", "body", "Body")),
+                export("en-gb"));
+
+        assertThrows(EntityExistsException.class, () -> languageService.cloneLanguage("fr", languageDto));
+        assertThrows(EntityNotFoundException.class, () -> languageService.cloneLanguage("xx", languageDto));
+    }
+
+    @Test
+    void testDeleteLanguage() {
+        createTranslation("delete.title", "Title", "en");
+
+        assertThrows(IllegalStateException.class, () -> languageService.deleteLanguage("en"));
+        assertNotNull(exportSnapshotService.getSnapshot("fr"));
+        languageService.deleteLanguage("fr");
+        assertThrows(EntityNotFoundException.class, () -> exportSnapshotService.getSnapshot("fr"));
+
+        assertFalse(languageRepository.existsByCode("fr"));
+        assertTrue(languageRepository.existsByCode("en"));
+        assertEquals(List.of("en"), languageService.getAllLanguages().stream().map(LanguageResponseDto::getCode).toList());
+    }
+
+    @Test
+    void testFallbackChains() throws Exception {
+        createLanguage("fr-ca", "French (Canada)");
+        createTranslation("common.title", "Title", "en");
+        createTranslation("common.save", "Save", "en");
+        createTranslation("common.cancel", "Cancel", "en");
+        createTranslation("common.title", "Titre", "fr");
+        createTranslation("common.save", "Enregistrer", "fr");
+        createTranslation("common.save", "Sauvegarder", "fr-ca");
+        translationRepository.flush();
+
+        assertEquals(List.of("fr-ca", "fr", "en"), languageRegistry.fallbackChain("fr-ca"));
+        // Looked up like find(): codes are stored in lower case and matched exactly
+        assertEquals(List.of(), languageRegistry.fallbackChain("fr-CA"));
+        assertTrue(languageRegistry.find("fr-CA").isEmpty());
+        assertEquals(List.of("en"), languageRegistry.fallbackChain("en"));
+        assertEquals(List.of(), languageRegistry.fallbackChain("xx"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        translationExportService.writeMergedTranslations(List.of("fr-ca", "fr", "en"), out);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> merged = new ObjectMapper().readValue(out.toByteArray(), Map.class);
+        assertEquals(Map.of("common", Map.of("title", "Titre", "save", "Sauvegarder", "cancel", "Cancel")), merged);
+
+        assertEquals("Sauvegarder", translationLookupService.getTranslationWithFallback("common.save", "fr-ca").getContent());
+        Translation cancel = translationLookupService.getTranslationWithFallback("common.cancel", "fr-ca");
+        assertEquals("Cancel", cancel.getContent());
+        assertEquals("en", cancel.getLanguage().getCode());
+        assertThrows(EntityNotFoundException.class,
+                () -> translationLookupService.getTranslationWithFallback("common.missing", "fr-ca"));
+
+        LanguageDto catalan = new LanguageDto();
+        catalan.setCode("ca");
+        catalan.setName("Catalan");
+        catalan.setFallback("fr");
+        languageService.createLanguage(catalan);
+        assertEquals(List.of("fr", "en"), languageService.getLanguage("ca").getFallbacks());
+
+        catalan.setFallback("ca");
+        assertThrows(IllegalArgumentException.class, () -> languageService.updateLanguage("ca", catalan));
+        catalan.setFallback("xx");
+        assertThrows(IllegalArgumentException.class, () -> languageService.updateLanguage("ca", catalan));
+
+        LanguageDto french = new LanguageDto();
+        french.setCode("fr-fr");
+        french.setName("French (France)");
+        languageService.updateLanguage("fr", french);
+        assertEquals(List.of("ca", "fr-fr", "en"), languageRegistry.fallbackChain("ca"));
+        assertEquals("fr-fr", languageRepository.findByCode("ca").orElseThrow().getFallbackCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> export(String languageCode) {
+        translationRepository.flush();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            translationExportService.writeTranslations(languageCode, out);
+            return new ObjectMapper().readValue(out.toByteArray(), Map.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void createLanguage(String code, String name) {
         LanguageDto languageDto = new LanguageDto();
         languageDto.setCode(code);
@@ -138,12 +496,28 @@ class TranslationIntegrationTest {
         languageService.createLanguage(languageDto);
     }
 
+    private static List<String> keys(TranslationCursorPageDto page) {
+        return page.getContent().stream().map(TranslationResponseDto::getKey).toList();
+    }
+
     private void createTranslation(String key, String content, String languageCode) {
+        createTranslation(key, content, languageCode, "test");
+    }
+
+    private void createTranslation(String key, String content, String languageCode, String... tags) {
+        translationService.createTranslation(translation(key, content, languageCode, Set.of(tags)));
+    }
+
+    private static TranslationDto translation(String key, String content, String languageCode, Set<String> tags) {
         TranslationDto dto = new TranslationDto();
         dto.setKey(key);
         dto.setContent(content);
         dto.setLanguageCode(languageCode);
-        dto.setTags(Set.of("test"));
-        translationService.createTranslation(dto);
+        dto.setTags(tags);
+        return dto;
+    }
+
+    private static Set<String> tagNames(Translation translation) {
+        return translation.getTags().stream().map(Tag::getName).collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,128 @@
+package com.translation.integration;
+
+import com.translation.dto.LanguageDto;
+import com.translation.dto.TranslationDeltaDto;
+import com.translation.dto.TranslationDto;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationRepository;
+import com.translation.seed.SeedSpec;
+import com.translation.seed.SyntheticDataset;
+import com.translation.service.LanguageService;
+import com.translation.service.TranslationRevisionService;
+import com.translation.service.TranslationSeedService;
+import com.translation.service.TranslationService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "translation.bulk.batch-size=100")
+@ActiveProfiles("test")
+class TranslationSeedIntegrationTest {
+
+    private static final SeedSpec SPEC = SeedSpec.builder()
+            .seed(7)
+            .keys(300)
+            .languages(List.of("en", "fr"))
+            .tags(List.of("web", "mobile", "seed-only"))
+            .maxTagsPerTranslation(2)
+            .contentLength(30)
+            .build();
+
+    @Autowired
+    private TranslationSeedService translationSeedService;
+
+    @Autowired
+    private TranslationService translationService;
+
+    @Autowired
+    private TranslationRevisionService translationRevisionService;
+
+    @Autowired
+    private LanguageService languageService;
+
+    @Autowired
+    private TranslationRepository translationRepository;
+
+    @Autowired
+    private LanguageRepository languageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        translationRepository.deleteAll();
+        languageRepository.deleteAll();
+
+        createLanguage("en", "English");
+        createLanguage("fr", "French");
+    }
+
+    @Test
+    void seed_LoadsTheGeneratedDataset() {
+        assertEquals(600, translationSeedService.seed(SPEC));
+
+        SyntheticDataset dataset = new SyntheticDataset(SPEC);
+        assertEquals(600, translationRepository.count());
+        assertEquals(dataset.content(42, "fr"), translationService.getTranslation(dataset.key(42), "fr").getContent());
+        int links = IntStream.range(0, dataset.size()).map(i -> dataset.tags(i).length).sum();
+        assertEquals(2L * links, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM translation_tags", Long.class));
+
+        TranslationDeltaDto delta = translationRevisionService.getDelta("en", 0);
+        assertTrue(delta.isFull());
+        assertEquals(300, delta.getUpdated().size());
+
+        // Ids handed out afterwards do not collide with the seeded ones
+        TranslationDto dto = new TranslationDto();
+        dto.setKey("after.seed");
+        dto.setContent("After");
+        dto.setLanguageCode("en");
+        translationService.createTranslation(dto);
+        translationRepository.flush();
+        assertEquals(601, translationRepository.count());
+    }
+
+    @Test
+    void seed_RejectsLanguagesWithTranslations() {
+        translationSeedService.seed(SPEC);
+
+        assertThrows(IllegalStateException.class, () -> translationSeedService.seed(SPEC));
+        assertThrows(EntityNotFoundException.class, () -> translationSeedService.seed(
+                SeedSpec.builder().languages(List.of("xx")).build()));
+        assertEquals(600, translationRepository.count());
+    }
+
+    @Test
+    void dataset_IsReproducibleBySeed() {
+        SyntheticDataset dataset = new SyntheticDataset(SPEC);
+        SyntheticDataset same = new SyntheticDataset(SeedSpec.builder().seed(7).keys(300)
+                .tags(SPEC.getTags()).maxTagsPerTranslation(2).contentLength(30).build());
+        SyntheticDataset other = new SyntheticDataset(SeedSpec.builder().seed(8).keys(300)
+                .tags(SPEC.getTags()).maxTagsPerTranslation(2).contentLength(30).build());
+
+        assertEquals(dataset.key(10), same.key(10));
+        assertEquals(dataset.content(10, "en"), same.content(10, "en"));
+        assertArrayEquals(dataset.tags(10), same.tags(10));
+        assertNotEquals(dataset.content(10, "en"), dataset.content(10, "fr"));
+        assertFalse(IntStream.range(0, 20).allMatch(i -> dataset.content(i, "en").equals(other.content(i, "en"))));
+        assertTrue(IntStream.range(0, 300).allMatch(i -> dataset.tags(i).length <= 2
+                && Arrays.stream(dataset.tags(i)).distinct().count() == dataset.tags(i).length));
+    }
+
+    private void createLanguage(String code, String name) {
+        LanguageDto languageDto = new LanguageDto();
+        languageDto.setCode(code);
+        languageDto.setName(name);
+        languageService.createLanguage(languageDto);
+    }
+}
@@ -0,0 +1,94 @@
+package com.translation.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.translation.cache.CacheValueCodec;
+import com.translation.model.Language;
+import com.translation.model.Translation;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the binary cache codec with the serializers Redis caches would otherwise use.
+ * Entities are not {@code Serializable}, so single translations are compared with JSON.
+ */
+class CacheValueCodecBenchmarkTest {
+
+    private static final int TREE_KEYS = 10_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 500;
+
+    private final CacheValueCodec codec = new CacheValueCodec();
+
+    @Test
+    void languageTree_SmallerAndFasterThanJdkSerialization() {
+        Map<String, Object> tree = new HashMap<>();
+        for (int i = 0; i < TREE_KEYS; i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> section = (Map<String, Object>) tree.computeIfAbsent("section" + (i % 100), k -> new HashMap<>());
+            section.put("key" + i, "Translated content number " + i);
+        }
+
+        Result binary = measure(codec, tree, 20);
+        Result jdk = measure(new JdkSerializationRedisSerializer(), tree, 20);
+        print("language tree", binary, jdk);
+
+        assertEquals(tree, codec.deserialize(codec.serialize(tree)));
+        assertTrue(binary.size < jdk.size, "binary tree should be smaller than JDK serialization");
+    }
+
+    @Test
+    void translation_SmallerThanJson() {
+        Language language = new Language();
+        language.setId(1L);
+        language.setCode("en");
+        Translation translation = new Translation();
+        translation.setId(123L);
+        translation.setTranslationKey("common.button.save");
+        translation.setContent("Save");
+        translation.setLanguage(language);
+        translation.setCreatedAt(LocalDateTime.now());
+        translation.setUpdatedAt(LocalDateTime.now());
+
+        Result binary = measure(codec, translation, 1);
+        Result json = measure(new GenericJackson2JsonRedisSerializer(new ObjectMapper().findAndRegisterModules()), translation, 1);
+        print("translation", binary, json);
+
+        assertTrue(binary.size < json.size, "binary translation should be smaller than JSON");
+    }
+
+    private static Result measure(RedisSerializer<Object> serializer, Object value, int weight) {
+        int rounds = Math.max(1, MEASURED_ROUNDS / weight);
+        for (int i = 0; i < Math.max(1, WARMUP_ROUNDS / weight); i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        byte[] bytes = null;
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            bytes = serializer.serialize(value);
+        }
+        long encodeNanos = (System.nanoTime() - encodeStart) / rounds;
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            serializer.deserialize(bytes);
+        }
+        long decodeNanos = (System.nanoTime() - decodeStart) / rounds;
+        return new Result(bytes.length, encodeNanos, decodeNanos);
+    }
+
+    private static void print(String label, Result binary, Result other) {
+        System.out.printf("%s: binary %d bytes, encode %d us, decode %d us | baseline %d bytes, encode %d us, decode %d us%n",
+                label, binary.size, binary.encodeNanos / 1000, binary.decodeNanos / 1000,
+                other.size, other.encodeNanos / 1000, other.decodeNanos / 1000);
+    }
+
+    private record Result(int size, long encodeNanos, long decodeNanos) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.translation.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedBitmapTest {
+
+    @Test
+    void setOperations_MatchBitSetAcrossSparseAndDenseChunks() {
+        Random random = new Random(42);
+        BitSet expectedA = new BitSet();
+        BitSet expectedB = new BitSet();
+        CompressedBitmap a = new CompressedBitmap();
+        CompressedBitmap b = new CompressedBitmap();
+        // Chunk 0 dense in both, chunk 1 sparse, chunk 3 dense in a only
+        for (int i = 0; i < 30000; i++) {
+            add(a, expectedA, random.nextInt(65536));
+            add(b, expectedB, random.nextInt(65536));
+        }
+        for (int i = 0; i < 100; i++) {
+            add(a, expectedA, 65536 + random.nextInt(65536));
+            add(b, expectedB, 65536 + random.nextInt(65536));
+            add(b, expectedB, 2 * 65536 + i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            add(a, expectedA, 3 * 65536 + random.nextInt(65536));
+        }
+
+        BitSet and = (BitSet) expectedA.clone();
+        and.and(expectedB);
+        BitSet or = (BitSet) expectedA.clone();
+        or.or(expectedB);
+        BitSet andNot = (BitSet) expectedA.clone();
+        andNot.andNot(expectedB);
+
+        assertEquals(ids(and), ids(CompressedBitmap.and(a, b)));
+        assertEquals(ids(or), ids(CompressedBitmap.or(a, b)));
+        assertEquals(ids(andNot), ids(CompressedBitmap.andNot(a, b)));
+        assertEquals(and.cardinality(), CompressedBitmap.andCardinality(a, b));
+        assertEquals(expectedA.cardinality(), a.cardinality());
+    }
+
+    @Test
+    void remove_ConvertsDenseChunksBackAndDropsEmptyOnes() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 5000; i++) {
+            bitmap.add(i * 2);
+        }
+        for (int i = 0; i < 5000; i++) {
+            bitmap.remove(i * 2);
+            assertFalse(bitmap.contains(i * 2));
+        }
+        assertTrue(bitmap.isEmpty());
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    void select_SkipsWholeChunks() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2, 3, 70000, 70001, 200000);
+
+        assertArrayEquals(new int[] {3, 70000}, bitmap.select(2, 2));
+        assertArrayEquals(new int[] {70001, 200000}, bitmap.select(4, 10));
+        assertArrayEquals(new int[0], bitmap.select(6, 10));
+    }
+
+    @Test
+    void add_RejectsNegativeIds() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    private static void add(CompressedBitmap bitmap, BitSet expected, int id) {
+        bitmap.add(id);
+        expected.set(id);
+    }
+
+    private static List<Integer> ids(BitSet bitSet) {
+        List<Integer> ids = new ArrayList<>();
+        bitSet.stream().forEach(ids::add);
+        return ids;
+    }
+
+    private static List<Integer> ids(CompressedBitmap bitmap) {
+        List<Integer> ids = new ArrayList<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+}
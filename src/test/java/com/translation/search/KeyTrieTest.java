@@ -0,0 +1,92 @@
+package com.translation.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyTrieTest {
+
+    private KeyTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new KeyTrie();
+        trie.add("error.form.required");
+        trie.add("error.form.email.invalid");
+        trie.add("error.network");
+        trie.add("home.title");
+    }
+
+    @Test
+    void count_CountsKeysStrictlyBelowTheNamespace() {
+        assertEquals(4, trie.size());
+        assertEquals(3, trie.count("error"));
+        assertEquals(2, trie.count("error.form"));
+        assertEquals(1, trie.count("error.form.email"));
+        assertEquals(0, trie.count("error.network"));
+        assertEquals(0, trie.count("error.forms"));
+    }
+
+    @Test
+    void children_ReportKeysAndNamespaces() {
+        assertEquals(List.of(new KeyTrie.Child("error", 3, false), new KeyTrie.Child("home", 1, false)),
+                trie.children(""));
+        assertEquals(List.of(new KeyTrie.Child("email", 1, false), new KeyTrie.Child("required", 0, true)),
+                trie.children("error.form"));
+        assertEquals(List.of(), trie.children("missing"));
+    }
+
+    @Test
+    void children_InsideACompressedEdge() {
+        trie.add("deep.a.b.c.d");
+
+        assertEquals(List.of(new KeyTrie.Child("b", 1, false)), trie.children("deep.a"));
+        assertEquals(List.of(new KeyTrie.Child("d", 0, true)), trie.children("deep.a.b.c"));
+        assertEquals(1, trie.count("deep.a.b"));
+    }
+
+    @Test
+    void add_KeyThatIsAlsoANamespace() {
+        assertTrue(trie.add("error.form"));
+        assertFalse(trie.add("error.form"));
+
+        assertTrue(trie.contains("error.form"));
+        assertFalse(trie.contains("error"));
+        assertEquals(4, trie.count("error"));
+        assertEquals(2, trie.count("error.form"));
+        assertEquals(new KeyTrie.Child("form", 2, true), trie.children("error").get(0));
+    }
+
+    @Test
+    void remove_PrunesAndRecompresses() {
+        assertTrue(trie.remove("error.form.required"));
+        assertFalse(trie.remove("error.form.required"));
+        assertFalse(trie.remove("error.form"));
+
+        assertEquals(3, trie.size());
+        assertEquals(List.of(new KeyTrie.Child("email", 1, false)), trie.children("error.form"));
+        assertEquals(List.of("error.form.email.invalid"), keys("error.form"));
+
+        trie.remove("error.form.email.invalid");
+        trie.remove("error.network");
+        assertEquals(List.of(new KeyTrie.Child("home", 1, false)), trie.children(""));
+        assertEquals(0, trie.count("error"));
+    }
+
+    @Test
+    void keys_VisitsTheSubtreeInOrder() {
+        assertEquals(List.of("error.form.email.invalid", "error.form.required", "error.network"), keys("error"));
+        assertEquals(List.of("error.form.email.invalid"), keys("error.form.email"));
+        assertEquals(List.of(), keys("error.network"));
+    }
+
+    private List<String> keys(String prefix) {
+        List<String> keys = new ArrayList<>();
+        trie.keys(prefix, keys::add);
+        return keys;
+    }
+}
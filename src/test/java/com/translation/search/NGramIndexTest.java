@@ -0,0 +1,88 @@
+package com.translation.search;
+
+import com.translation.cache.CachedTranslation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.put(translation(1, "en", "common.button.save", "Save changes", "web"));
+        index.put(translation(2, "en", "common.button.cancel", "Cancel", "mobile"));
+        index.put(translation(3, "fr", "common.button.save", "Enregistrer", "web"));
+        index.put(translation(4, "en", "error.required", "This field is required"));
+    }
+
+    @Test
+    void search_MatchesSubstringOfKeyOrContentIgnoringCase() {
+        assertEquals(List.of(1L, 3L), ids(index.search("BUTTON.SAVE", Set.of(), 0, 10)));
+        assertEquals(List.of(4L), ids(index.search("field is", Set.of(), 0, 10)));
+        assertEquals(List.of(), ids(index.search("saves", Set.of(), 0, 10)));
+    }
+
+    @Test
+    void search_ShortTermsAreVerifiedAgainstEveryDocument() {
+        assertEquals(List.of(2L), ids(index.search("nc", Set.of(), 0, 10)));
+    }
+
+    @Test
+    void search_UnionWithTags() {
+        assertEquals(List.of(2L, 4L), ids(index.search("required", Set.of("mobile"), 0, 10)));
+    }
+
+    @Test
+    void search_BlankTermMatchesEverythingAndPaginates() {
+        NGramIndex.Result result = index.search(" ", Set.of(), 1, 2);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(2L, 3L), ids(result));
+    }
+
+    @Test
+    void searchAfter_PagesInKeyAndIdOrder() {
+        List<CachedTranslation> first = index.searchAfter("", Set.of(), "", 0, 2);
+        assertEquals(List.of(2L, 1L), first.stream().map(CachedTranslation::id).toList());
+
+        CachedTranslation last = first.get(1);
+        List<CachedTranslation> second = index.searchAfter("", Set.of(), last.key(), last.id(), 2);
+        assertEquals(List.of(3L, 4L), second.stream().map(CachedTranslation::id).toList());
+
+        assertEquals(List.of(), index.searchAfter("", Set.of(), "error.required", 4, 2));
+    }
+
+    @Test
+    void putAndRemove_ReplaceExistingEntries() {
+        index.put(translation(1, "en", "common.button.save", "Store", "web"));
+        index.remove("en", "error.required");
+
+        assertEquals(List.of(), ids(index.search("save changes", Set.of(), 0, 10)));
+        assertEquals(List.of(1L), ids(index.search("store", Set.of(), 0, 10)));
+        assertEquals(List.of(), ids(index.search("required", Set.of(), 0, 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void removeLanguage_DropsAllItsEntries() {
+        index.removeLanguage("en");
+
+        assertEquals(List.of(3L), ids(index.search("", Set.of(), 0, 10)));
+        assertTrue(index.estimatedBytes() > 0);
+    }
+
+    private static CachedTranslation translation(long id, String languageCode, String key, String content, String... tags) {
+        return new CachedTranslation(id, key, content, 1L, languageCode, List.of(tags), null, null);
+    }
+
+    private static List<Long> ids(NGramIndex.Result result) {
+        return result.translations().stream().map(CachedTranslation::id).toList();
+    }
+}
@@ -0,0 +1,22 @@
+package com.translation.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCursorTest {
+
+    @Test
+    void encode_RoundTripsKeysWithSeparatorsAndUnicode() {
+        SearchCursor cursor = new SearchCursor("home:title.überschrift", 42);
+
+        assertEquals(cursor, SearchCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_RejectsForeignTokens() {
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("bm9zZXBhcmF0b3I"));
+        assertThrows(IllegalArgumentException.class, () -> SearchCursor.decode("eDpr"));
+    }
+}
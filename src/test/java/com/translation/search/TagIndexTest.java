@@ -0,0 +1,98 @@
+package com.translation.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagIndexTest {
+
+    private TagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TagIndex();
+        index.put("en", "button.save", 1, List.of("mobile", "web"));
+        index.put("en", "button.cancel", 2, List.of("mobile", "desktop"));
+        index.put("en", "menu.file", 3, List.of("desktop"));
+        index.put("fr", "button.save", 4, List.of("mobile"));
+        index.put("fr", "legal.terms", 5, List.of());
+    }
+
+    @Test
+    void query_EvaluatesBooleanExpressions() {
+        assertEquals(List.of(1L, 4L), ids("mobile AND NOT desktop"));
+        assertEquals(List.of(1L, 4L), ids("mobile !desktop"));
+        assertEquals(List.of(2L, 3L, 4L), ids("desktop | (mobile & not web)"));
+        assertEquals(List.of(5L), ids("NOT (mobile OR desktop OR web)"));
+        assertEquals(List.of(), ids("unknown"));
+    }
+
+    @Test
+    void query_FiltersByLanguageAndPaginates() {
+        TagIndex.Result result = index.query(TagExpression.parse("mobile"), Set.of("en"), 1, 1, false);
+
+        assertEquals(List.of(2L), result.ids());
+        assertEquals(2, result.total());
+        assertEquals(Map.of(), result.facets());
+    }
+
+    @Test
+    void query_CountsMatchesPerTag() {
+        TagIndex.Result result = index.query(TagExpression.parse("mobile OR desktop"), Set.of(), 0, 10, true);
+
+        assertEquals(List.of("mobile", "desktop", "web"), List.copyOf(result.facets().keySet()));
+        assertEquals(Map.of("mobile", 3L, "desktop", 2L, "web", 1L), result.facets());
+    }
+
+    @Test
+    void putAndRemove_ReplaceTags() {
+        index.put("en", "button.save", 1, List.of("desktop"));
+        index.remove("en", "menu.file");
+        index.removeLanguage("fr");
+
+        assertEquals(List.of(1L, 2L), ids("desktop"));
+        assertEquals(List.of(2L), ids("mobile"));
+        assertEquals(List.of(), ids("web"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void put_AcceptsIdsBeyondIntRange() {
+        long large = Integer.MAX_VALUE + 10L;
+        index.put("de", "button.save", large, List.of("mobile"));
+        index.put("de", "button.cancel", large + 1, List.of("web"));
+        index.put("de", "button.save", large + 2, List.of("web"));
+
+        assertEquals(List.of(large + 1, large + 2),
+                index.query(TagExpression.parse("web"), Set.of("de"), 0, 10, false).ids());
+    }
+
+    @Test
+    void parse_QuotedTagsMayBeNamedLikeOperators() {
+        index.put("en", "menu.or", 6, List.of("or", "not"));
+        index.put("en", "menu.and", 7, List.of("and", "tag with \"quotes\""));
+
+        assertEquals(List.of(6L), ids("\"or\""));
+        assertEquals(List.of(6L), ids("\"not\" AND NOT \"and\""));
+        assertEquals(List.of(7L), ids("\"and\" | \"OR\""));
+        assertEquals(List.of(7L), ids("\"tag with \\\"quotes\\\"\""));
+    }
+
+    @Test
+    void parse_RejectsMalformedExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> TagExpression.parse("mobile AND"));
+        assertThrows(IllegalArgumentException.class, () -> TagExpression.parse("(mobile"));
+        assertThrows(IllegalArgumentException.class, () -> TagExpression.parse("mobile)"));
+        assertThrows(IllegalArgumentException.class, () -> TagExpression.parse("OR web"));
+        assertThrows(IllegalArgumentException.class, () -> TagExpression.parse("\"mobile"));
+    }
+
+    private List<Long> ids(String expression) {
+        return index.query(TagExpression.parse(expression), Set.of(), 0, 100, false).ids();
+    }
+}
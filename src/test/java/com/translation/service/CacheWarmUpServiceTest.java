@@ -0,0 +1,96 @@
+package com.translation.service;
+
+import com.translation.cache.CacheAccessTracker;
+import com.translation.cache.LanguageRegistry;
+import com.translation.model.Translation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private ExportSnapshotService exportSnapshotService;
+
+    @Mock
+    private LanguageRegistry languageRegistry;
+
+    @Mock
+    private CacheAccessTracker cacheAccessTracker;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void warmUp_BuildsSnapshotsOfAllLanguagesAndLoadsHotKeys() {
+        when(languageRegistry.all()).thenReturn(List.of(
+                new LanguageRegistry.Entry(1L, "en", "English", null, List.of(), null, null),
+                new LanguageRegistry.Entry(2L, "fr", "French", null, List.of("en"), null, null)));
+        when(languageRegistry.fallbackChain("en")).thenReturn(List.of("en"));
+        when(languageRegistry.fallbackChain("fr")).thenReturn(List.of("fr", "en"));
+        when(cacheAccessTracker.topKeys(10)).thenReturn(List.of(
+                new CacheAccessTracker.HotKey("en", "common.greeting"),
+                new CacheAccessTracker.HotKey("fr", "removed.key")));
+        when(translationService.getTranslation("common.greeting", "en")).thenReturn(new Translation());
+        when(translationService.getTranslation("removed.key", "fr"))
+                .thenThrow(new EntityNotFoundException("Translation not found"));
+
+        assertTrue(service("all", Duration.ofSeconds(5)).warmUp());
+
+        verify(exportSnapshotService).getSnapshot("en");
+        verify(exportSnapshotService).getSnapshot("fr");
+        verify(exportSnapshotService).getMergedSnapshot("fr");
+        verify(exportSnapshotService, never()).getMergedSnapshot("en");
+        assertEquals(2, count("exportSnapshots", "loaded"));
+        assertEquals(1, count("mergedExportSnapshots", "loaded"));
+        assertEquals(1, count("translations", "loaded"));
+        assertEquals(1, count("translations", "skipped"));
+        assertEquals(1.0, meterRegistry.get("translation.cache.warmup.progress").gauge().value());
+    }
+
+    @Test
+    void warmUp_ConfiguredLanguagesOnly() {
+        service(" de, es ", Duration.ofSeconds(5)).warmUp();
+
+        verify(exportSnapshotService).getSnapshot("de");
+        verify(exportSnapshotService).getSnapshot("es");
+        verify(languageRegistry, never()).all();
+    }
+
+    @Test
+    void warmUp_StopsWhenTimeBudgetIsUsedUp() {
+        CountDownLatch never = new CountDownLatch(1);
+        when(exportSnapshotService.getSnapshot("en")).thenAnswer(invocation -> {
+            never.await();
+            return null;
+        });
+
+        assertFalse(service("en", Duration.ofMillis(100)).warmUp());
+    }
+
+    private CacheWarmUpService service(String languages, Duration timeBudget) {
+        return new CacheWarmUpService(translationService, exportSnapshotService, languageRegistry, cacheAccessTracker,
+                meterRegistry, languages, 10, 2, timeBudget);
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.get("translation.cache.warmup.entries")
+                .tag("cache", cache)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -1,8 +1,13 @@
 package com.translation.service;
 
+import com.translation.cache.LanguageRegistry;
 import com.translation.dto.LanguageDto;
+import com.translation.dto.LanguageResponseDto;
 import com.translation.model.Language;
 import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationBulkRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationRepository;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +32,24 @@ class LanguageServiceTest {
     @Mock
     private LanguageRepository languageRepository;
 
+    @Mock
+    private TranslationRepository translationRepository;
+
+    @Mock
+    private TranslationBulkRepository translationBulkRepository;
+
+    @Mock
+    private TranslationChangeRepository translationChangeRepository;
+
+    @Mock
+    private TranslationRevisionService translationRevisionService;
+
+    @Mock
+    private LanguageRegistry languageRegistry;
+
+    @Mock
+    private CacheManager cacheManager;
+
     @InjectMocks
     private LanguageService languageService;
 
@@ -114,9 +138,9 @@ class LanguageServiceTest {
 
     @Test
     void getLanguage_Success() {
-        when(languageRepository.findByCode("en")).thenReturn(Optional.of(language));
+        when(languageRegistry.require("en")).thenReturn(entry(1L, "en", "English"));
 
-        Language result = languageService.getLanguage("en");
+        LanguageResponseDto result = languageService.getLanguage("en");
 
         assertNotNull(result);
         assertEquals("en", result.getCode());
@@ -125,7 +149,7 @@ class LanguageServiceTest {
 
     @Test
     void getLanguage_NotFound() {
-        when(languageRepository.findByCode("en")).thenReturn(Optional.empty());
+        when(languageRegistry.require("en")).thenThrow(new EntityNotFoundException("Language not found: en"));
 
         assertThrows(EntityNotFoundException.class, () -> {
             languageService.getLanguage("en");
@@ -134,14 +158,9 @@ class LanguageServiceTest {
 
     @Test
     void getAllLanguages_Success() {
-        Language language2 = new Language();
-        language2.setId(2L);
-        language2.setCode("fr");
-        language2.setName("French");
-
-        when(languageRepository.findAll()).thenReturn(Arrays.asList(language, language2));
+        when(languageRegistry.all()).thenReturn(Arrays.asList(entry(1L, "en", "English"), entry(2L, "fr", "French")));
 
-        List<Language> result = languageService.getAllLanguages();
+        List<LanguageResponseDto> result = languageService.getAllLanguages();
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -151,33 +170,40 @@ class LanguageServiceTest {
 
     @Test
     void deleteLanguage_Success() {
-        when(languageRepository.findByCode("en")).thenReturn(Optional.of(language));
+        when(languageRegistry.require("en")).thenReturn(entry(1L, "en", "English"));
+        when(translationRepository.existsByLanguageId(1L)).thenReturn(false);
 
         languageService.deleteLanguage("en");
 
-        verify(languageRepository).delete(language);
+        verify(translationChangeRepository).deleteByLanguageId(1L);
+        verify(languageRepository).deleteLanguageById(1L);
+        verify(languageRegistry).languagesChanged();
     }
 
     @Test
     void deleteLanguage_NotFound() {
-        when(languageRepository.findByCode("en")).thenReturn(Optional.empty());
+        when(languageRegistry.require("en")).thenThrow(new EntityNotFoundException("Language not found: en"));
 
         assertThrows(EntityNotFoundException.class, () -> {
             languageService.deleteLanguage("en");
         });
 
-        verify(languageRepository, never()).delete(any(Language.class));
+        verify(languageRepository, never()).deleteLanguageById(any());
     }
 
     @Test
     void deleteLanguage_WithTranslations() {
-        language.getTranslations().add(new com.translation.model.Translation());
-        when(languageRepository.findByCode("en")).thenReturn(Optional.of(language));
+        when(languageRegistry.require("en")).thenReturn(entry(1L, "en", "English"));
+        when(translationRepository.existsByLanguageId(1L)).thenReturn(true);
 
         assertThrows(IllegalStateException.class, () -> {
             languageService.deleteLanguage("en");
         });
 
-        verify(languageRepository, never()).delete(any(Language.class));
+        verify(languageRepository, never()).deleteLanguageById(any());
+    }
+
+    private static LanguageRegistry.Entry entry(long id, String code, String name) {
+        return new LanguageRegistry.Entry(id, code, name, null, List.of(), null, null);
     }
 }
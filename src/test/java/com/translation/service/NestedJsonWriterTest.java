@@ -0,0 +1,88 @@
+package com.translation.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NestedJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_BuildsNestedObjects() throws IOException {
+        String json = write(
+            "common.button.cancel", "Cancel",
+            "common.button.save", "Save",
+            "common.title", "Title",
+            "error.form.required", "Required",
+            "welcome", "Welcome"
+        );
+
+        Map<?, ?> result = objectMapper.readValue(json, Map.class);
+        Map<?, ?> common = (Map<?, ?>) result.get("common");
+        Map<?, ?> button = (Map<?, ?>) common.get("button");
+        Map<?, ?> form = (Map<?, ?>) ((Map<?, ?>) result.get("error")).get("form");
+
+        assertEquals("Cancel", button.get("cancel"));
+        assertEquals("Save", button.get("save"));
+        assertEquals("Title", common.get("title"));
+        assertEquals("Required", form.get("required"));
+        assertEquals("Welcome", result.get("welcome"));
+    }
+
+    @Test
+    void write_PrefixSharingKeysInBinaryOrder() throws IOException {
+        String json = write(
+            "a.b-x.y", "1",
+            "a.b.c", "2",
+            "a.b.d", "3"
+        );
+
+        assertEquals("{\"a\":{\"b-x\":{\"y\":\"1\"},\"b\":{\"c\":\"2\",\"d\":\"3\"}}}", json);
+    }
+
+    @Test
+    void write_SkipsLeafConflictingWithSubtree() throws IOException {
+        String json = write(
+            "a.b", "leaf",
+            "a.b.c", "nested"
+        );
+
+        assertEquals("{\"a\":{\"b\":\"leaf\"}}", json);
+    }
+
+    @Test
+    void write_SkipsSubtreeConflictingWithEarlierLeaf() throws IOException {
+        String json = write(
+            "a.b", "leaf",
+            "a.b-x.y", "1",
+            "a.b.c", "nested"
+        );
+
+        assertEquals("{\"a\":{\"b\":\"leaf\",\"b-x\":{\"y\":\"1\"}}}", json);
+    }
+
+    @Test
+    void write_EmptyExport() throws IOException {
+        assertEquals("{}", write());
+    }
+
+    private String write(String... keyValues) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            NestedJsonWriter writer = new NestedJsonWriter(generator);
+            writer.writeStart();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                writer.write(keyValues[i], keyValues[i + 1]);
+            }
+            writer.writeEnd();
+        }
+        return out.toString();
+    }
+}
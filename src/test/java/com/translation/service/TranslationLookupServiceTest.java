@@ -0,0 +1,202 @@
+package com.translation.service;
+
+import com.translation.cache.LanguageRegistry;
+import com.translation.dto.BatchTranslationResultDto;
+import com.translation.event.TranslationChangedEvent;
+import com.translation.model.Translation;
+import com.translation.model.TranslationChange;
+import com.translation.repository.LanguageRepository;
+import com.translation.repository.TranslationChangeRepository;
+import com.translation.repository.TranslationJdbcRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationLookupServiceTest {
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private TranslationJdbcRepository translationJdbcRepository;
+
+    @Mock
+    private LanguageRepository languageRepository;
+
+    @Mock
+    private LanguageRegistry languageRegistry;
+
+    @Mock
+    private TranslationChangeRepository translationChangeRepository;
+
+    private TranslationLookupService lookupService;
+
+    @BeforeEach
+    void setUp() {
+        lookupService = service(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void getTranslation_UnknownKeyRejectedByFilter() {
+        buildFilter("en", 3L, "common.greeting");
+
+        assertThrows(EntityNotFoundException.class, () -> lookupService.getTranslation("missing.key", "en"));
+        verify(translationService, never()).getTranslation(anyString(), anyString());
+    }
+
+    @Test
+    void getTranslation_KnownKeyLoadedThroughService() {
+        buildFilter("en", 3L, "common.greeting");
+        Translation translation = new Translation();
+        when(translationService.getTranslation("common.greeting", "en")).thenReturn(translation);
+
+        assertSame(translation, lookupService.getTranslation("common.greeting", "en"));
+    }
+
+    @Test
+    void getTranslation_MissWithoutFilterIsCachedUntilCreated() {
+        when(translationService.getTranslation("optional.key", "de"))
+                .thenThrow(new EntityNotFoundException("Translation not found"));
+
+        assertThrows(EntityNotFoundException.class, () -> lookupService.getTranslation("optional.key", "de"));
+        assertThrows(EntityNotFoundException.class, () -> lookupService.getTranslation("optional.key", "de"));
+        verify(translationService, times(1)).getTranslation("optional.key", "de");
+
+        lookupService.onTranslationChanged(TranslationChangedEvent.upserted("de", "optional.key"));
+        assertThrows(EntityNotFoundException.class, () -> lookupService.getTranslation("optional.key", "de"));
+        verify(translationService, times(2)).getTranslation("optional.key", "de");
+    }
+
+    @Test
+    void onTranslationChanged_AddsCreatedKeyToFilter() {
+        buildFilter("en", 3L, "common.greeting");
+        Translation translation = new Translation();
+        when(translationService.getTranslation("new.key", "en")).thenReturn(translation);
+
+        lookupService.onTranslationChanged(TranslationChangedEvent.upserted("en", "new.key"));
+
+        assertSame(translation, lookupService.getTranslation("new.key", "en"));
+    }
+
+    @Test
+    void onTranslationChanged_LocalWriteKeepsFilterCurrent() {
+        lookupService = service(Duration.ZERO);
+        LanguageRepository.LanguageRevision language = buildFilter("en", 3L, "common.greeting");
+
+        lookupService.onTranslationChanged(TranslationChangedEvent.upserted("en", "new.key", 4L));
+        when(language.getRevision()).thenReturn(4L);
+
+        assertThrows(EntityNotFoundException.class, () -> lookupService.getTranslation("missing.key", "en"));
+        verify(translationService, never()).getTranslation(anyString(), anyString());
+        verify(translationChangeRepository, never()).findChanges(anyLong(), anyLong(), anyLong());
+        verify(translationJdbcRepository, times(1)).countKeys(1L);
+    }
+
+    @Test
+    void getTranslation_ReplaysRemoteChangesInsteadOfRebuilding() {
+        lookupService = service(Duration.ZERO);
+        LanguageRepository.LanguageRevision language = buildFilter("en", 3L, "common.greeting");
+        when(language.getRevision()).thenReturn(5L);
+        when(translationChangeRepository.findChanges(1L, 3L, 5L)).thenReturn(List.of(
+                change("remote.key", TranslationChange.Type.UPSERT),
+                change("common.greeting", TranslationChange.Type.DELETE)));
+        Translation translation = new Translation();
+        when(translationService.getTranslation("remote.key", "en")).thenReturn(translation);
+
+        assertSame(translation, lookupService.getTranslation("remote.key", "en"));
+        assertThrows(EntityNotFoundException.class, () -> lookupService.getTranslation("missing.key", "en"));
+        verify(translationService, never()).getTranslation("missing.key", "en");
+        verify(translationChangeRepository, times(1)).findChanges(anyLong(), anyLong(), anyLong());
+        verify(translationJdbcRepository, times(1)).countKeys(1L);
+    }
+
+    @Test
+    void getTranslationWithFallback_TriesFallbackLanguagesInOrder() {
+        buildFilter("fr-ca", 3L, "common.greeting");
+        Translation translation = new Translation();
+        when(languageRegistry.fallbackChain("fr-ca")).thenReturn(List.of("fr-ca", "fr", "en"));
+        when(translationService.getTranslation("common.farewell", "fr"))
+                .thenThrow(new EntityNotFoundException("Translation not found"));
+        when(translationService.getTranslation("common.farewell", "en")).thenReturn(translation);
+
+        assertSame(translation, lookupService.getTranslationWithFallback("common.farewell", "fr-ca"));
+        // fr-ca was ruled out by its filter
+        verify(translationService, never()).getTranslation("common.farewell", "fr-ca");
+
+        when(translationService.getTranslation(eq("missing.key"), anyString()))
+                .thenThrow(new EntityNotFoundException("Translation not found"));
+        assertThrows(EntityNotFoundException.class,
+                () -> lookupService.getTranslationWithFallback("missing.key", "fr-ca"));
+    }
+
+    @Test
+    void getTranslations_FetchesOnlyKeysThatMayExist() {
+        buildFilter("en", 3L, "common.greeting", "common.farewell");
+        Translation greeting = new Translation();
+        greeting.setContent("Hello");
+        when(translationService.getTranslations(Map.of("en", Set.of("common.greeting", "common.farewell"))))
+                .thenReturn(Map.of("en", Map.of("common.greeting", greeting)));
+
+        BatchTranslationResultDto result = lookupService.getTranslations(
+                List.of("common.greeting", "common.farewell", "missing.key"), List.of("en"));
+
+        assertEquals(Map.of("en", Map.of("common.greeting", "Hello")), result.getTranslations());
+        assertEquals(Map.of("en", Set.of("common.farewell", "missing.key")), result.getMissing());
+
+        // Keys the query did not find are remembered as misses
+        when(translationService.getTranslations(Map.of("en", Set.of("common.greeting"))))
+                .thenReturn(Map.of("en", Map.of("common.greeting", greeting)));
+        result = lookupService.getTranslations(List.of("common.greeting", "common.farewell"), List.of("en"));
+        assertEquals(Set.of("common.farewell"), result.getMissing().get("en"));
+    }
+
+    private TranslationLookupService service(Duration revisionCheckInterval) {
+        return new TranslationLookupService(translationService, translationJdbcRepository, languageRepository,
+                languageRegistry, translationChangeRepository, true, 0.01, revisionCheckInterval,
+                Duration.ofMinutes(1), 1000);
+    }
+
+    private static TranslationChange change(String key, TranslationChange.Type type) {
+        TranslationChange change = new TranslationChange();
+        change.setTranslationKey(key);
+        change.setType(type);
+        return change;
+    }
+
+    @SuppressWarnings("unchecked")
+    private LanguageRepository.LanguageRevision buildFilter(String languageCode, long revision, String... keys) {
+        LanguageRepository.LanguageRevision language = mock(LanguageRepository.LanguageRevision.class);
+        when(language.getId()).thenReturn(1L);
+        when(language.getRevision()).thenReturn(revision);
+        when(languageRepository.findAllCodes()).thenReturn(List.of(languageCode));
+        when(languageRepository.findRevisionInfoByCode(languageCode)).thenReturn(Optional.of(language));
+        when(translationJdbcRepository.countKeys(1L)).thenReturn((long) keys.length);
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            for (String key : keys) {
+                consumer.accept(key);
+            }
+            return null;
+        }).when(translationJdbcRepository).streamKeys(eq(1L), any(Consumer.class));
+        lookupService.rebuildFilters();
+        return language;
+    }
+}
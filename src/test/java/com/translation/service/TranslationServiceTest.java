@@ -1,12 +1,16 @@
 package com.translation.service;
 
+import com.translation.cache.LanguageRegistry;
 import com.translation.dto.TranslationDto;
+import com.translation.event.TranslationChangedEvent;
 import com.translation.model.Language;
 import com.translation.model.Tag;
 import com.translation.model.Translation;
 import com.translation.repository.LanguageRepository;
 import com.translation.repository.TagRepository;
 import com.translation.repository.TranslationRepository;
+import com.translation.search.TranslationSearchBackend;
+import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,12 +38,29 @@ class TranslationServiceTest {
     @Mock
     private LanguageRepository languageRepository;
 
+    @Mock
+    private LanguageRegistry languageRegistry;
+
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private TranslationRevisionService translationRevisionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TranslationSearchBackend translationSearchBackend;
+
+    @Mock
+    private TranslationLoadBatcher translationLoadBatcher;
+
     @InjectMocks
     private TranslationService translationService;
 
+    private static final LanguageRegistry.Entry ENGLISH = new LanguageRegistry.Entry(1L, "en", "English", null, List.of(), null, null);
+
     private Language language;
     private Translation translation;
     private TranslationDto translationDto;
@@ -73,9 +95,11 @@ class TranslationServiceTest {
 
     @Test
     void createTranslation_Success() {
-        when(languageRepository.findByCode("en")).thenReturn(Optional.of(language));
+        when(languageRegistry.require("en")).thenReturn(ENGLISH);
+        when(languageRepository.getReferenceById(1L)).thenReturn(language);
         when(tagRepository.findByNameIn(any())).thenReturn(tags);
         when(translationRepository.save(any(Translation.class))).thenReturn(translation);
+        when(translationRevisionService.recordChange(1L, "test.key", "Test content")).thenReturn(5L);
 
         Translation result = translationService.createTranslation(translationDto);
 
@@ -84,11 +108,23 @@ class TranslationServiceTest {
         assertEquals("Test content", result.getContent());
         assertEquals("en", result.getLanguage().getCode());
         verify(translationRepository).save(any(Translation.class));
+        verify(translationRevisionService).recordChange(1L, "test.key", "Test content");
+        verify(eventPublisher).publishEvent(TranslationChangedEvent.upserted("en", "test.key", 5L));
+    }
+
+    @Test
+    void createTranslation_AlreadyExists() {
+        when(languageRegistry.require("en")).thenReturn(ENGLISH);
+        when(translationRepository.existsByTranslationKeyAndLanguageId("test.key", 1L)).thenReturn(true);
+
+        assertThrows(EntityExistsException.class, () -> translationService.createTranslation(translationDto));
+
+        verify(translationRepository, never()).save(any(Translation.class));
     }
 
     @Test
     void createTranslation_LanguageNotFound() {
-        when(languageRepository.findByCode("en")).thenReturn(Optional.empty());
+        when(languageRegistry.require("en")).thenThrow(new EntityNotFoundException("Language not found: en"));
 
         assertThrows(EntityNotFoundException.class, () -> {
             translationService.createTranslation(translationDto);
@@ -99,7 +135,8 @@ class TranslationServiceTest {
 
     @Test
     void getTranslation_Success() {
-        when(translationRepository.findByKeyAndLanguageCode("test.key", "en"))
+        when(languageRegistry.find("en")).thenReturn(Optional.of(ENGLISH));
+        when(translationRepository.findByKeyAndLanguageId("test.key", 1L))
             .thenReturn(Optional.of(translation));
 
         Translation result = translationService.getTranslation("test.key", "en");
@@ -111,7 +148,8 @@ class TranslationServiceTest {
 
     @Test
     void getTranslation_NotFound() {
-        when(translationRepository.findByKeyAndLanguageCode("test.key", "en"))
+        when(languageRegistry.find("en")).thenReturn(Optional.of(ENGLISH));
+        when(translationRepository.findByKeyAndLanguageId("test.key", 1L))
             .thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
@@ -124,7 +162,7 @@ class TranslationServiceTest {
         List<Translation> translations = List.of(translation);
         Page<Translation> page = new PageImpl<>(translations);
         
-        when(translationRepository.searchTranslations(anyString(), anySet(), any(PageRequest.class)))
+        when(translationSearchBackend.search(anyString(), anySet(), any(PageRequest.class)))
             .thenReturn(page);
 
         Page<Translation> result = translationService.searchTranslations(
@@ -138,32 +176,4 @@ class TranslationServiceTest {
         assertEquals(1, result.getContent().size());
         assertEquals("test.key", result.getContent().get(0).getTranslationKey());
     }
-
-    @Test
-    void getTranslationsForLanguage_Success() {
-        List<Translation> translations = Arrays.asList(
-            createTranslation("common.button.save", "Save"),
-            createTranslation("common.button.cancel", "Cancel")
-        );
-
-        when(translationRepository.findAllByLanguageCode("en")).thenReturn(translations);
-
-        Map<String, Object> result = translationService.getTranslationsForLanguage("en");
-
-        assertNotNull(result);
-        @SuppressWarnings("unchecked")
-        Map<String, Object> common = (Map<String, Object>) result.get("common");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> button = (Map<String, Object>) common.get("button");
-        assertEquals("Save", button.get("save"));
-        assertEquals("Cancel", button.get("cancel"));
-    }
-
-    private Translation createTranslation(String key, String content) {
-        Translation t = new Translation();
-        t.setTranslationKey(key);
-        t.setContent(content);
-        t.setLanguage(language);
-        return t;
-    }
 }